@@ -0,0 +1,124 @@
+package com.example.resumeandportfolio.repository.token;
+
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
+import com.example.resumeandportfolio.util.jwt.TokenDigest;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+/**
+ * Refresh Token Store Benchmark
+ *
+ * 저장소별 저장/조회/교체 처리량 비교 (redis는 localhost:6379 필요)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RefreshTokenStoreBenchmark {
+
+    @Param({"memory", "jdbc", "redis"})
+    private String store;
+
+    private RefreshTokenStore refreshTokenStore;
+    private HikariDataSource dataSource;
+    private LettuceConnectionFactory connectionFactory;
+    private final AtomicInteger threadIds = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        refreshTokenStore = switch (store) {
+            case "memory" -> new InMemoryRefreshTokenStore();
+            case "jdbc" -> {
+                dataSource = new HikariDataSource();
+                dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+                Flyway.configure().dataSource(dataSource).load().migrate();
+                yield new JdbcRefreshTokenStore(new JdbcTemplate(dataSource),
+                    new DataSourceTransactionManager(dataSource));
+            }
+            case "redis" -> {
+                connectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration("localhost", 6379));
+                connectionFactory.afterPropertiesSet();
+                yield new RedisRefreshTokenStore(new StringRedisTemplate(connectionFactory));
+            }
+            default -> throw new IllegalArgumentException(store);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    // 스레드마다 다른 사용자의 세션 하나를 교체하며 사용
+    @State(Scope.Thread)
+    public static class Session {
+
+        private String username;
+        private String digest;
+        private int counter;
+
+        @Setup(Level.Iteration)
+        public void setUp(RefreshTokenStoreBenchmark benchmark) {
+            username = "bench-" + benchmark.threadIds.incrementAndGet() + "@example.com";
+            digest = TokenDigest.sha256(username);
+            benchmark.refreshTokenStore.save(username, "session-1", digest, now() + 86400, now(),
+                5);
+        }
+
+        private String nextDigest() {
+            return TokenDigest.sha256(username + (++counter));
+        }
+    }
+
+    @Benchmark
+    public void save(Session session) {
+        refreshTokenStore.save(session.username, "session-" + (session.counter++ % 5 + 2),
+            session.digest, now() + 86400, now(), 5);
+    }
+
+    @Benchmark
+    public String findDigest(Session session) {
+        return refreshTokenStore.findDigest(session.username, "session-1", now());
+    }
+
+    @Benchmark
+    public RefreshTokenRotationResult rotate(Session session) {
+        String newDigest = session.nextDigest();
+        RefreshTokenRotationResult result = refreshTokenStore.rotate(session.username,
+            "session-1", session.digest, newDigest, now() + 86400, now());
+        session.digest = newDigest;
+
+        return result;
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.resumeandportfolio.repository.user;
+
+import com.example.resumeandportfolio.config.JpaConfig;
+import com.example.resumeandportfolio.model.entity.user.User;
+import com.example.resumeandportfolio.model.enums.Role;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * User Bulk Insert Benchmark
+ *
+ * 사용자 ROWS명을 한 트랜잭션에 저장하는 시간 비교 (결과는 행당 시간)
+ * mem: 같은 JVM의 H2 (왕복 비용 없음), tcp: H2 TCP 서버 (실제 DB처럼 문장마다 네트워크 왕복)
+ * identity: 기존 IDENTITY 매핑 (행마다 INSERT 후 생성된 키 조회, 배치 불가)
+ * time-sorted: User의 TimeSortedId 매핑 (hibernate.jdbc.batch_size 단위로 배치 INSERT)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserBulkInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    @Param({"identity", "time-sorted"})
+    private String idStrategy;
+
+    @Param({"mem", "tcp"})
+    private String transport;
+
+    private Server server;
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String database = "mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        if ("tcp".equals(transport)) {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            database = "tcp://localhost:" + server.getPort() + "/" + database;
+        }
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:" + database,
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false",
+                "id.node-id=0",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "spring.jpa.properties.hibernate.order_inserts=true")
+            .run();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+            context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(
+            context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    // 반복마다 테이블을 비워 행 수 증가가 결과에 영향을 주지 않도록 함
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE users");
+        jdbcTemplate.execute("TRUNCATE TABLE identity_users");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insert() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                String email = "user" + (sequence++) + "@example.com";
+                entityManager.persist("identity".equals(idStrategy)
+                    ? new IdentityUser(email)
+                    : User.builder()
+                        .email(email)
+                        .password("$2a$10$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ012")
+                        .nickname("Tester")
+                        .role(Role.VISITOR)
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    // 기존 IDENTITY 매핑과 같은 컬럼을 가진 비교용 엔티티
+    @Entity
+    @Table(name = "identity_users")
+    public static class IdentityUser {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long userId;
+
+        @Column(nullable = false, unique = true)
+        private String email;
+
+        @Column(nullable = false)
+        private String password;
+
+        @Column(nullable = false, length = 15)
+        private String nickname;
+
+        @Column(nullable = false, length = 20)
+        private String role;
+
+        protected IdentityUser() {
+        }
+
+        IdentityUser(String email) {
+            this.email = email;
+            this.password = "$2a$10$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ012";
+            this.nickname = "Tester";
+            this.role = Role.VISITOR.name();
+        }
+    }
+
+    @Configuration
+    @Import(JpaConfig.class)
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class,
+        JdbcTemplateAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = {User.class, IdentityUser.class})
+    static class BenchmarkConfig {
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.resumeandportfolio.repository.user;
+
+import com.example.resumeandportfolio.config.JpaConfig;
+import com.example.resumeandportfolio.model.dto.user.UserLoadInfoDto;
+import com.example.resumeandportfolio.model.entity.user.User;
+import com.example.resumeandportfolio.model.enums.Role;
+import com.example.resumeandportfolio.util.mapper.UserMapper;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * User Projection Benchmark
+ *
+ * 사용자 정보 조회 시 엔티티 조회(영속성 컨텍스트 적재, 스냅샷 생성)와 프로젝션 조회 비교 (인메모리 H2)
+ * 요청당 할당량은 -prof gc의 gc.alloc.rate.norm 참고
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserProjectionBenchmark {
+
+    private static final String EMAIL = "test@example.com";
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false",
+                "id.node-id=0")
+            .run();
+        userRepository = context.getBean(UserRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        userRepository.save(User.builder()
+            .email(EMAIL)
+            .password("$2a$10$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ012")
+            .nickname("Tester")
+            .role(Role.VISITOR)
+            .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // 기존 방식: 엔티티를 읽어 세 필드만 복사
+    @Benchmark
+    public UserLoadInfoDto entity() {
+        return readOnly.execute(status -> UserMapper.toUserLoadInfoDto(
+            userRepository.findByEmailAndDeletedAtIsNull(EMAIL).orElseThrow()));
+    }
+
+    // 필요한 컬럼만 조회
+    @Benchmark
+    public UserLoadInfoDto projection() {
+        return readOnly.execute(status -> UserMapper.toUserLoadInfoDto(
+            userRepository.findProfileByEmail(EMAIL).orElseThrow()));
+    }
+
+    @Configuration
+    @Import(JpaConfig.class)
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class BenchmarkConfig {
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.resumeandportfolio.service.user;
+
+import com.example.resumeandportfolio.model.dto.user.VerificationTokenDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * VerificationTokenDto Jackson 직렬화 Benchmark (UserService의 Redis 저장/조회 경로)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VerificationTokenJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private VerificationTokenDto verificationToken;
+    private String json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        verificationToken = new VerificationTokenDto(UUID.randomUUID().toString(),
+            "test@example.com", LocalDateTime.now().plusHours(24));
+        json = objectMapper.writeValueAsString(verificationToken);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(verificationToken);
+    }
+
+    @Benchmark
+    public VerificationTokenDto deserialize() throws JsonProcessingException {
+        return objectMapper.readValue(json, VerificationTokenDto.class);
+    }
+
+    @Benchmark
+    public VerificationTokenDto roundTrip() throws JsonProcessingException {
+        return objectMapper.readValue(objectMapper.writeValueAsString(verificationToken),
+            VerificationTokenDto.class);
+    }
+}
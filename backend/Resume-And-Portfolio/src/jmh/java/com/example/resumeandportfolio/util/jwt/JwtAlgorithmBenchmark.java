@@ -0,0 +1,53 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JWT Signing Algorithm Benchmark
+ *
+ * 배포 환경별 서명 방식 선택을 위한 HS256, ES256, EdDSA 서명과 검증 비용 비교
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAlgorithmBenchmark {
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    private String algorithm;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // 비대칭 방식은 키 목록 없이 임시 키 쌍으로 측정 (allow-ephemeral)
+        JwtKeyRing keyRing = new JwtKeyRing(null, new SimpleMeterRegistry(),
+            "mySuperSecretKeyForJwtBenchmark12345", algorithm, "none", "", 0L, true);
+        jwtUtil = new JwtUtil(keyRing);
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.createJwt("access", "user@example.com", "ROLE_VISITOR", "session-1", 1L,
+            600000L);
+    }
+
+    @Benchmark
+    public JwtClaims verify() {
+        return jwtUtil.parseToken(token);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import io.jsonwebtoken.JwtException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JWT Utility Benchmark
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    // username 길이로 토큰 크기 조절
+    @Param({"16", "128", "512"})
+    private int usernameLength;
+
+    // 축약 Claim 표기 발급 여부
+    @Param({"false", "true"})
+    private boolean compactClaims;
+
+    private JwtUtil jwtUtil;
+    private String username;
+    private String token;
+    private String expiredToken;
+    private String garbageToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(new JwtKeyRing("mySuperSecretKeyForJwtBenchmark12345"),
+            compactClaims);
+        username = "u".repeat(usernameLength - "@example.com".length()) + "@example.com";
+        token = jwtUtil.createJwt("access", username, "VISITOR", 600000L);
+        expiredToken = jwtUtil.createJwt("access", username, "VISITOR", -600000L);
+        garbageToken = "x".repeat(token.length());
+    }
+
+    // 전용 서명 경로 (스레드별 Mac, 버퍼 재사용)
+    @Benchmark
+    public String createJwt() {
+        return jwtUtil.createJwt("access", username, "VISITOR", "session-1", 1L, 600000L);
+    }
+
+    // 기존 jjwt 빌더 경로
+    @Benchmark
+    public String createJwtWithBuilder() {
+        return jwtUtil.buildJwt("access", username, "VISITOR", "session-1", 1L, 600000L);
+    }
+
+    // 기존 JwtFilter 방식: 검증 4회
+    @Benchmark
+    public void verifyFourParses(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.isExpired(token));
+        blackhole.consume(jwtUtil.getCategory(token));
+        blackhole.consume(jwtUtil.getUsername(token));
+        blackhole.consume(jwtUtil.getRole(token));
+    }
+
+    @Benchmark
+    public JwtClaims parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+
+    // 사전 검사에서 거부되는 토큰 (서명 검증 없음)
+    @Benchmark
+    public Object rejectExpiredToken() {
+        return reject(expiredToken);
+    }
+
+    @Benchmark
+    public Object rejectGarbageToken() {
+        return reject(garbageToken);
+    }
+
+    private Object reject(String rejected) {
+        try {
+            return jwtUtil.parseToken(rejected);
+        } catch (JwtException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.resumeandportfolio.util.mapper;
+
+import com.example.resumeandportfolio.model.dto.user.UserLoadInfoDto;
+import com.example.resumeandportfolio.model.dto.user.UserLoginResponse;
+import com.example.resumeandportfolio.model.dto.user.UserRegisterRequest;
+import com.example.resumeandportfolio.model.entity.user.User;
+import com.example.resumeandportfolio.model.enums.Role;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * User's Mapper Benchmark
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserMapperBenchmark {
+
+    private User user;
+    private UserRegisterRequest registerRequest;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+            .email("test@example.com")
+            .password("$2a$10$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ012")
+            .nickname("Tester")
+            .role(Role.VISITOR)
+            .build();
+        registerRequest = new UserRegisterRequest("test@example.com", "password", "password",
+            "Tester");
+    }
+
+    @Benchmark
+    public UserLoadInfoDto toUserLoadInfoDto() {
+        return UserMapper.toUserLoadInfoDto(user);
+    }
+
+    @Benchmark
+    public UserLoginResponse toLoginResponse() {
+        return UserMapper.toLoginResponse(user);
+    }
+
+    @Benchmark
+    public User toEntity() {
+        return UserMapper.toEntity(registerRequest, user.getPassword());
+    }
+}
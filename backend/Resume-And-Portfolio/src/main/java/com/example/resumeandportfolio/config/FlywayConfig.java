@@ -0,0 +1,27 @@
+package com.example.resumeandportfolio.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Flyway Configuration
+ *
+ * 스키마는 db/migration의 버전별 마이그레이션으로 관리
+ * 이력 테이블이 없는 기존 DB(ddl-auto로 만든 스키마)는 버전 1로 baseline 처리 후 2부터 적용
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Configuration
+public class FlywayConfig {
+
+    // spring.flyway.baseline-on-migrate를 지정하지 않으면 기존 DB도 마이그레이션할 수 있도록 true
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer(
+        @Value("${spring.flyway.baseline-on-migrate:true}") boolean baselineOnMigrate) {
+        return configuration -> configuration.baselineOnMigrate(baselineOnMigrate);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.resumeandportfolio.config;
+
+import com.example.resumeandportfolio.util.id.TimeSortedIdGenerator;
+import com.example.resumeandportfolio.util.id.TimeSortedIds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * JPA Configuration
+ *
+ * ID를 INSERT 전에 정하므로(TimeSortedId) 같은 엔티티의 INSERT를 JDBC 배치로 묶어 실행
+ * spring.jpa.properties.hibernate.*로 지정한 값이 있으면 그 값을 사용
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Configuration
+public class JpaConfig {
+
+    // 노드 ID가 같은 두 노드는 같은 ms에 같은 ID를 만들 수 있으므로 id.node-id(0~31)를 노드마다 다르게 지정
+    // 지정하지 않으면 local, dev, test 프로필에서만 0을 사용하고 그 외에는 시작 실패
+    @Bean
+    public TimeSortedIds timeSortedIds(Environment environment,
+        @Value("${id.node-id:-1}") int nodeId) {
+        if (nodeId >= 0) {
+            return new TimeSortedIds(nodeId);
+        }
+        if (environment.acceptsProfiles(Profiles.of("local | dev | test"))) {
+            return new TimeSortedIds(0);
+        }
+        throw new IllegalStateException(
+            "id.node-id must be set to a value unique to this node (0-31)");
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaPropertiesCustomizer(TimeSortedIds timeSortedIds) {
+        return hibernateProperties -> {
+            hibernateProperties.put(TimeSortedIdGenerator.IDS_SETTING, timeSortedIds);
+            hibernateProperties.putIfAbsent("hibernate.jdbc.batch_size", "50");
+            hibernateProperties.putIfAbsent("hibernate.order_inserts", "true");
+            hibernateProperties.putIfAbsent("hibernate.order_updates", "true");
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.resumeandportfolio.config;
+
+import com.example.resumeandportfolio.util.mail.PooledJavaMailSender;
+import java.util.Properties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * Mail Configuration
+ *
+ * mail.smtp-pool.enabled=true이면 기본 JavaMailSender 대신 SMTP 연결을 재사용하는 PooledJavaMailSender 등록
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+@ConditionalOnProperty(name = "mail.smtp-pool.enabled", havingValue = "true")
+public class MailConfig {
+
+    // spring.mail.* 설정은 스프링 부트 기본 JavaMailSender와 같은 방식으로 적용
+    @Bean
+    public JavaMailSender javaMailSender(MailProperties properties,
+        @Value("${mail.smtp-pool.size:4}") int poolSize,
+        @Value("${mail.smtp-pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+        @Value("${mail.smtp-pool.idle-timeout-ms:30000}") long idleTimeoutMs) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(poolSize, maxMessagesPerConnection,
+            idleTimeoutMs);
+        sender.setHost(properties.getHost());
+        if (properties.getPort() != null) {
+            sender.setPort(properties.getPort());
+        }
+        sender.setUsername(properties.getUsername());
+        sender.setPassword(properties.getPassword());
+        sender.setProtocol(properties.getProtocol());
+        if (properties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+        }
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(properties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+
+        return sender;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.resumeandportfolio.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Rate Limit Properties
+ *
+ * 인증 관련 공개 API별 요청 제한 (rate-limit.{login|register|reset-password|reissue}.*)
+ * ip, email은 각각 토큰 버킷 크기(capacity)와 버킷이 가득 차는 데 걸리는 시간(period)이며, email이 없으면 IP로만 제한
+ * 예: rate-limit.login.email.capacity=5, rate-limit.login.email.period=10m
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    // 전체 사용 여부
+    private boolean enabled = true;
+
+    // 노드별 로컬 버킷 최대 개수
+    private long localCacheSize = 100_000L;
+
+    // Redis에서 한 번에 예약해 로컬에서 허용할 토큰 비율 (capacity 대비, 최소 1개)
+    private double localFraction = 0.1;
+
+    private Endpoint login = new Endpoint(List.of("/api/users/login"),
+        new Limit(30, Duration.ofMinutes(1)), new Limit(10, Duration.ofMinutes(5)));
+
+    private Endpoint register = new Endpoint(List.of("/api/users/register/**"),
+        new Limit(20, Duration.ofMinutes(10)), new Limit(5, Duration.ofMinutes(10)));
+
+    private Endpoint resetPassword = new Endpoint(List.of("/api/users/reset-password/**"),
+        new Limit(10, Duration.ofMinutes(10)), new Limit(3, Duration.ofMinutes(10)));
+
+    private Endpoint reissue = new Endpoint(List.of("/api/users/reissue"),
+        new Limit(60, Duration.ofMinutes(1)), null);
+
+    // 이름별 엔드포인트 규칙 (메트릭 태그와 Redis 키에 이름 사용)
+    public Map<String, Endpoint> endpoints() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("login", login);
+        endpoints.put("register", register);
+        endpoints.put("reset-password", resetPassword);
+        endpoints.put("reissue", reissue);
+
+        return endpoints;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Endpoint {
+
+        // 요청 경로 패턴 (AntPathMatcher)
+        private List<String> paths;
+
+        // IP별 제한
+        private Limit ip;
+
+        // 이메일별 제한 (email, username 파라미터 또는 JSON 본문의 email)
+        private Limit email;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        private int capacity;
+        private Duration period;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.resumeandportfolio.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
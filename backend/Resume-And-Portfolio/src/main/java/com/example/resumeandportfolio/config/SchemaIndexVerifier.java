@@ -0,0 +1,106 @@
+package com.example.resumeandportfolio.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schema Index Verifier
+ *
+ * 시작 시 자주 실행되는 쿼리가 사용하는 인덱스가 있는지 DB 메타데이터로 확인하고, 없으면 시작 실패
+ * 인덱스 이름과 관계없이 지정한 컬럼이 순서대로 앞부분에 오는 인덱스가 있으면 통과 (schema.index-check.enabled=false로 끌 수 있음)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Component
+@ConditionalOnProperty(name = "schema.index-check.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier implements SmartInitializingSingleton {
+
+    // 테이블별 필요한 인덱스 컬럼
+    static final List<ExpectedIndex> EXPECTED_INDEXES = List.of(
+        new ExpectedIndex("users", List.of("email")),
+        new ExpectedIndex("users", List.of("email", "deleted_at")),
+        new ExpectedIndex("mail_outbox", List.of("status", "next_attempt_at"))
+    );
+
+    private final DataSource dataSource;
+
+    public SchemaIndexVerifier(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // 모든 빈(마이그레이션 포함) 초기화 후 확인
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<ExpectedIndex> missing = missingIndexes();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing database indexes: " + missing);
+        }
+    }
+
+    // 없는 인덱스 목록
+    List<ExpectedIndex> missingIndexes() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            List<ExpectedIndex> missing = new ArrayList<>();
+            for (ExpectedIndex expected : EXPECTED_INDEXES) {
+                if (!hasIndex(connection, metaData, expected)) {
+                    missing.add(expected);
+                }
+            }
+            return missing;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read database indexes", e);
+        }
+    }
+
+    private static boolean hasIndex(Connection connection, DatabaseMetaData metaData,
+        ExpectedIndex expected) throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers()
+            ? expected.table().toUpperCase(Locale.ROOT) : expected.table();
+
+        // 인덱스 이름별 컬럼 (ORDINAL_POSITION 순서)
+        Map<String, TreeMap<Short, String>> indexes = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(),
+            table, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                indexes.computeIfAbsent(indexName, name -> new TreeMap<>())
+                    .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        for (TreeMap<Short, String> columns : indexes.values()) {
+            List<String> ordered = new ArrayList<>(columns.values());
+            if (ordered.size() >= expected.columns().size()
+                && ordered.subList(0, expected.columns().size()).equals(expected.columns())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    record ExpectedIndex(String table, List<String> columns) {
+
+        @Override
+        public String toString() {
+            return table + "(" + String.join(", ", columns) + ")";
+        }
+    }
+}
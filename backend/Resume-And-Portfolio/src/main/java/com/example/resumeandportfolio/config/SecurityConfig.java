@@ -3,15 +3,28 @@ package com.example.resumeandportfolio.config;
 import com.example.resumeandportfolio.filter.CustomLogoutFilter;
 import com.example.resumeandportfolio.filter.JwtFilter;
 import com.example.resumeandportfolio.filter.LoginFilter;
+import com.example.resumeandportfolio.filter.RateLimitFilter;
 import com.example.resumeandportfolio.service.user.CustomOAuth2UserService;
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
+import com.example.resumeandportfolio.util.jwt.TokenRevocationList;
+import com.example.resumeandportfolio.util.jwt.VerifiedTokenCache;
 import com.example.resumeandportfolio.util.oauth2.OAuth2AuthenticationSuccessHandler;
+import com.example.resumeandportfolio.util.password.BCryptCostCalibrator;
+import com.example.resumeandportfolio.util.password.BoundedPasswordEncoder;
+import com.example.resumeandportfolio.util.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,6 +32,8 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
@@ -34,13 +49,20 @@ import org.springframework.web.cors.CorsConfigurationSource;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
     private final RefreshTokenService refreshTokenService;
+    private final TokenEpochService tokenEpochService;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
 
     // 시큐리티 체인
     @Bean
@@ -85,16 +107,22 @@ public class SecurityConfig {
             )
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/", "/api/users/reissue", "/api/users/login", "/api/users/register/**",
-                    "/api/users/oauth2/**")
+                    "/api/users/oauth2/**", "/api/users/jwks")
                 .permitAll()
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(new JwtFilter(jwtUtil), LoginFilter.class)
+            // 인증 처리(BCrypt, 메일 발송 등) 전에 요청 제한
+            .addFilterBefore(new RateLimitFilter(rateLimiter, rateLimitProperties, objectMapper),
+                LogoutFilter.class)
+            .addFilterBefore(
+                new JwtFilter(verifiedTokenCache, tokenRevocationList, tokenEpochService),
+                LoginFilter.class)
             .addFilterAt(
                 new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil,
-                    refreshTokenService),
+                    refreshTokenService, tokenEpochService),
                 UsernamePasswordAuthenticationFilter.class)
-            .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenService),
+            .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenService, verifiedTokenCache,
+                    tokenRevocationList),
                 LogoutFilter.class)
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
@@ -103,9 +131,31 @@ public class SecurityConfig {
     }
 
     // 패스워드 인코더
+    // 새 해시는 {bcrypt} 접두사와 보정된 cost로 저장하고, 접두사 없는 기존 해시도 검증
+    // cost가 낮거나 다른 알고리즘인 해시는 로그인 성공 시 다시 해시 (upgradeEncoding)
+    // BCrypt 해시는 전용 스레드 풀에서 실행 (threads가 0이면 CPU 코어 수)
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+        @Value("${security.password-hash.threads:0}") int threads,
+        @Value("${security.password-hash.queue-capacity:200}") int queueCapacity,
+        @Value("${security.password-hash.max-queue-wait-ms:1000}") long maxQueueWaitMs,
+        @Value("${security.password-hash.bcrypt.strength:0}") int strength,
+        @Value("${security.password-hash.bcrypt.target-ms:250}") long targetMs,
+        @Value("${security.password-hash.bcrypt.min-strength:10}") int minStrength,
+        @Value("${security.password-hash.bcrypt.max-strength:14}") int maxStrength) {
+        // strength를 지정하지 않으면 시작 시 호스트에서 측정해 목표 시간에 맞는 cost 선택
+        int bcryptStrength = strength > 0 ? strength
+            : BCryptCostCalibrator.calibrate(targetMs, minStrength, maxStrength);
+        Gauge.builder("password.hash.bcrypt.strength", () -> bcryptStrength)
+            .register(meterRegistry);
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(
+            "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder,
+            threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity,
+            maxQueueWaitMs, meterRegistry);
     }
 
     //AuthenticationManager
@@ -0,0 +1,41 @@
+package com.example.resumeandportfolio.controller.user;
+
+import com.example.resumeandportfolio.util.jwt.JwtKeyRing;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * JWKS Controller
+ *
+ * 비대칭 서명 키(ES256, EdDSA)의 공개 키를 JWK Set으로 공개
+ * 다른 서비스와 리버스 프록시는 이를 캐시해 토큰을 로컬에서 검증
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class JwksController {
+
+    // 키 목록 reload 주기보다 길되, 새 키가 active로 전환되기 전 캐시가 갱신되도록 짧게 유지
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5))
+        .cachePublic();
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        return ResponseEntity.ok()
+            .cacheControl(CACHE_CONTROL)
+            .body(Map.of("keys", jwtKeyRing.publicJwks()));
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.resumeandportfolio.controller.user;
 
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
+import com.example.resumeandportfolio.util.jwt.JwtClaims;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
@@ -27,6 +30,7 @@ public class ReissueController {
 
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
+    private final TokenEpochService tokenEpochService;
 
     @PostMapping("/reissue")
     public ResponseEntity<?> reissue(HttpServletRequest request, HttpServletResponse response) {
@@ -47,34 +51,43 @@ public class ReissueController {
             return new ResponseEntity<>("refresh token null", HttpStatus.BAD_REQUEST);
         }
 
-        // 만료 여부 확인
+        // 토큰 검증 및 만료 여부 확인
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parseToken(refresh);
         } catch (ExpiredJwtException e) {
             return new ResponseEntity<>("refresh token expired", HttpStatus.BAD_REQUEST);
         }
 
-        // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refresh);
-        if (!category.equals("refresh")) {
+        // 토큰이 refresh인지, 세션 ID가 있는지 확인 (발급시 페이로드에 명시)
+        String category = claims.category();
+        if (!category.equals("refresh") || claims.sessionId() == null) {
             return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
         }
 
-        String username = jwtUtil.getUsername(refresh);
-        String role = jwtUtil.getRole(refresh);
+        String username = claims.username();
+        String role = claims.role();
+        String sessionId = claims.sessionId();
 
-        // DB에 올바르게 저장되어 있는지 확인
-        String storedToken = refreshTokenService.getRefreshToken(username);
-        if (!refresh.equals(storedToken)) {
+        // 비밀번호 변경 등으로 세대가 올라간 뒤의 토큰인지 확인
+        if (!tokenEpochService.isCurrent(username, claims.epoch())) {
             return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
         }
 
-        String newAccess = jwtUtil.createJwt("access", username, role, 600000L);
-        String newRefresh = jwtUtil.createJwt("refresh", username, role, 86400000L);
+        long epoch = tokenEpochService.issueEpoch(username);
+        String newAccess = jwtUtil.createJwt("access", username, role, sessionId, epoch, 600000L);
+        String newRefresh = jwtUtil.createJwt("refresh", username, role, sessionId, epoch,
+            86400000L);
 
-        // DB에 기존의 Refresh 토큰 삭제 후 새 Refresh 토큰 저장
-        refreshTokenService.deleteRefreshToken(username);
-        refreshTokenService.saveRefreshToken(username, newRefresh, 86400000L);
+        // 세션에 저장된 Refresh 토큰과 비교 후 새 Refresh 토큰으로 원자적으로 교체
+        RefreshTokenRotationResult result = refreshTokenService.rotateRefreshToken(username,
+            sessionId, refresh, newRefresh, 86400L);
+        if (result == RefreshTokenRotationResult.STALE) {
+            return new ResponseEntity<>("refresh token reused", HttpStatus.BAD_REQUEST);
+        }
+        if (result != RefreshTokenRotationResult.ROTATED) {
+            return new ResponseEntity<>("invalid refresh token", HttpStatus.BAD_REQUEST);
+        }
 
         response.setHeader("Authorization", "Bearer " + newAccess);
         response.addCookie(createCookie("refresh", newRefresh));
@@ -2,6 +2,7 @@ package com.example.resumeandportfolio.controller.user;
 
 import com.example.resumeandportfolio.exception.CustomException;
 import com.example.resumeandportfolio.exception.ErrorCode;
+import com.example.resumeandportfolio.filter.JwtFilter;
 import com.example.resumeandportfolio.model.dto.user.PasswordResetConfirmDto;
 import com.example.resumeandportfolio.model.dto.user.PasswordResetRequestDto;
 import com.example.resumeandportfolio.model.dto.user.UserLoadInfoDto;
@@ -12,12 +13,17 @@ import com.example.resumeandportfolio.model.dto.user.UserRegisterRequest;
 import com.example.resumeandportfolio.model.dto.user.UserUpdateRequest;
 import com.example.resumeandportfolio.model.dto.user.UserUpdateResponse;
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
 import com.example.resumeandportfolio.service.user.UserService;
+import com.example.resumeandportfolio.util.jwt.JwtClaims;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
+import com.example.resumeandportfolio.util.jwt.TokenRevocationList;
+import com.example.resumeandportfolio.util.jwt.VerifiedTokenCache;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -41,6 +47,9 @@ public class UserController {
     private final UserService userService;
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
+    private final TokenEpochService tokenEpochService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
 
     // 현재 사용자 정보 조회 API
     @GetMapping("/me")
@@ -62,13 +71,16 @@ public class UserController {
     ) {
         UserLoginResponse loginResponse = userService.login(request.email(), request.password());
 
+        String sessionId = UUID.randomUUID().toString(); // 기기(세션)별 Refresh 토큰 구분
+        long epoch = tokenEpochService.issueEpoch(loginResponse.email());
         String accessToken = jwtUtil.createJwt("access", loginResponse.email(),
-            loginResponse.role().name(), 600000L);
+            loginResponse.role().name(), sessionId, epoch, 600000L);
         String refreshToken = jwtUtil.createJwt("refresh", loginResponse.email(),
-            loginResponse.role().name(), 86400000L);
+            loginResponse.role().name(), sessionId, epoch, 86400000L);
 
         // Redis에 Refresh 토큰 저장
-        refreshTokenService.saveRefreshToken(loginResponse.email(), refreshToken, 86400L);
+        refreshTokenService.saveRefreshToken(loginResponse.email(), sessionId, refreshToken,
+            86400L);
 
         response.setHeader("Authorization", "Bearer " + accessToken);
         response.addCookie(createCookie("refresh", refreshToken));
@@ -131,8 +143,13 @@ public class UserController {
 
         String email = authentication.getName();
 
-        userService.deleteUser(email);
-        refreshTokenService.deleteRefreshToken(email); // Redis에서 Refresh 토큰 삭제
+        userService.deleteUser(email); // 커밋 후 모든 세션의 Refresh 토큰 삭제, 토큰 세대 증가
+        verifiedTokenCache.invalidateUser(email); // 검증된 Access 토큰 캐시 제거
+
+        // 현재 요청의 Access 토큰 폐기 (JwtFilter가 검증한 클레임 사용, 다시 파싱하지 않음)
+        if (request.getAttribute(JwtFilter.CLAIMS_ATTRIBUTE) instanceof JwtClaims claims) {
+            tokenRevocationList.revoke(claims.tokenId(), claims.expiration());
+        }
 
         return ResponseEntity.ok("회원 탈퇴가 완료되었습니다.");
     }
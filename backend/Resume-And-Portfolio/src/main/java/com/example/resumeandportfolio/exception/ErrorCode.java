@@ -24,7 +24,9 @@ public enum ErrorCode {
     REDIS_SAVE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "REDIS_SAVE_ERROR", "Redis 저장 중 오류가 발생했습니다."),
     INVALID_TOKEN(HttpStatus.BAD_REQUEST, "INVALID_TOKEN", "유효하지 않은 토큰입니다."),
     TOKEN_EXPIRED(HttpStatus.GONE, "TOKEN_EXPIRED", "토큰이 만료되었습니다."),
-    REDIS_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "REDIS_PARSE_ERROR", "Redis 데이터 처리 중 오류가 발생했습니다.");
+    REDIS_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "REDIS_PARSE_ERROR", "Redis 데이터 처리 중 오류가 발생했습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "PASSWORD_HASHING_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus status;  // HTTP 상태 코드
     private final String code;    // 에러 코드
@@ -1,8 +1,12 @@
 package com.example.resumeandportfolio.filter;
 
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.util.jwt.JwtClaims;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
+import com.example.resumeandportfolio.util.jwt.TokenRevocationList;
+import com.example.resumeandportfolio.util.jwt.VerifiedTokenCache;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -26,6 +30,8 @@ public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -61,29 +67,32 @@ public class CustomLogoutFilter extends GenericFilterBean {
             return;
         }
 
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parseToken(refresh);
         } catch (ExpiredJwtException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
-        // 토큰이 refresh인지 확인
-        String category = jwtUtil.getCategory(refresh);
-        if (!category.equals("refresh")) {
+        // 토큰이 refresh인지, 세션 ID가 있는지 확인
+        String category = claims.category();
+        if (!category.equals("refresh") || claims.sessionId() == null) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
         // Redis에서 토큰 검증
-        String username = jwtUtil.getUsername(refresh);
-        String storedToken = refreshTokenService.getRefreshToken(username);
-        if (storedToken == null || !storedToken.equals(refresh)) {
+        String username = claims.username();
+        String sessionId = claims.sessionId();
+        if (!refreshTokenService.matchesRefreshToken(username, sessionId, refresh)) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
-        refreshTokenService.deleteRefreshToken(username);
+        refreshTokenService.deleteRefreshToken(username, sessionId); // 현재 기기 세션만 로그아웃
+        verifiedTokenCache.invalidateSession(username, sessionId); // 다른 기기의 캐시 항목은 유지
+        revokeAccessToken(request.getHeader("access"), username);
 
         // Refresh 토큰 Cookie 값 0
         Cookie cookie = new Cookie("refresh", null);
@@ -94,4 +103,20 @@ public class CustomLogoutFilter extends GenericFilterBean {
         response.addCookie(cookie);
         response.setStatus(HttpServletResponse.SC_OK);
     }
+
+    // 함께 전달된 같은 사용자의 Access 토큰은 만료 전까지 사용할 수 없도록 폐기
+    private void revokeAccessToken(String accessToken, String username) {
+        if (accessToken == null) {
+            return;
+        }
+
+        try {
+            JwtClaims claims = jwtUtil.parseToken(accessToken);
+            if ("access".equals(claims.category()) && username.equals(claims.username())) {
+                tokenRevocationList.revoke(claims.tokenId(), claims.expiration());
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료되었거나 유효하지 않은 Access 토큰은 폐기할 필요 없음
+        }
+    }
 }
\ No newline at end of file
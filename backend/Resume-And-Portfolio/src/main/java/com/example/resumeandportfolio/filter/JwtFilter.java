@@ -3,7 +3,10 @@ package com.example.resumeandportfolio.filter;
 import com.example.resumeandportfolio.model.entity.user.CustomUserDetails;
 import com.example.resumeandportfolio.model.entity.user.User;
 import com.example.resumeandportfolio.model.enums.Role;
-import com.example.resumeandportfolio.util.jwt.JwtUtil;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
+import com.example.resumeandportfolio.util.jwt.JwtClaims;
+import com.example.resumeandportfolio.util.jwt.TokenRevocationList;
+import com.example.resumeandportfolio.util.jwt.VerifiedTokenCache;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,7 +30,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    public static final String CLAIMS_ATTRIBUTE = JwtFilter.class.getName() + ".claims";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenEpochService tokenEpochService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -40,9 +47,10 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 토큰 만료 여부 확인, 만료시 다음 필터로 넘기지 않음
+        // 토큰 검증 및 파싱 (검증된 토큰 캐시 우선), 만료시 다음 필터로 넘기지 않음
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = verifiedTokenCache.verify(accessToken);
         } catch (ExpiredJwtException e) {
             PrintWriter writer = response.getWriter();
             writer.print("access token expired");
@@ -51,7 +59,7 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         // 토큰이 access인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(accessToken);
+        String category = claims.category();
 
         if (!category.equals("access")) {
             PrintWriter writer = response.getWriter();
@@ -61,8 +69,19 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        String email = jwtUtil.getUsername(accessToken);
-        Role role = Role.valueOf(jwtUtil.getRole(accessToken));
+        // 로그아웃으로 폐기된 토큰인지(로컬 Bloom 필터 적중 시에만 Redis 조회),
+        // 비밀번호 변경 등으로 사용자의 토큰 세대가 올라갔는지 확인 (로컬 캐시)
+        if (tokenRevocationList.isRevoked(claims.tokenId())
+            || !tokenEpochService.isCurrent(claims.username(), claims.epoch())) {
+            PrintWriter writer = response.getWriter();
+            writer.print("revoked access token");
+
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        String email = claims.username();
+        Role role = Role.valueOf(claims.role());
 
         User user = User.builder()
             .email(email)
@@ -75,6 +94,7 @@ public class JwtFilter extends OncePerRequestFilter {
         Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null,
             customUserDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims); // 컨트롤러에서 토큰을 다시 파싱하지 않도록 전달
 
         filterChain.doFilter(request, response);
     }
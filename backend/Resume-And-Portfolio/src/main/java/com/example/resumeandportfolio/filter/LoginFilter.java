@@ -1,13 +1,18 @@
 package com.example.resumeandportfolio.filter;
 
+import com.example.resumeandportfolio.exception.CustomException;
+import com.example.resumeandportfolio.exception.ErrorCode;
 import com.example.resumeandportfolio.model.entity.user.CustomUserDetails;
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,6 +34,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
+    private final TokenEpochService tokenEpochService;
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request,
@@ -43,7 +49,13 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
             username, password, null);
 
         //token에 담은 검증을 위한 AuthenticationManager로 전달
-        return authenticationManager.authenticate(authToken);
+        try {
+            return authenticationManager.authenticate(authToken);
+        } catch (CustomException e) {
+            // 비밀번호 해시 풀이 포화 상태면 인증 실패(401) 대신 503으로 응답
+            writeError(response, e.getErrorCode());
+            return null;
+        }
     }
 
     //로그인 성공시 실행하는 메소드
@@ -51,12 +63,17 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     protected void successfulAuthentication(HttpServletRequest request,
         HttpServletResponse response, FilterChain chain, Authentication authentication) {
         CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
+        String sessionId = UUID.randomUUID().toString(); // 기기(세션)별 Refresh 토큰 구분
+        long epoch = tokenEpochService.issueEpoch(customUserDetails.getUsername());
         String access = jwtUtil.createJwt("access", customUserDetails.getUsername(),
-            customUserDetails.getAuthorities().iterator().next().getAuthority(), 600000L);
+            customUserDetails.getAuthorities().iterator().next().getAuthority(), sessionId,
+            epoch, 600000L);
         String refresh = jwtUtil.createJwt("refresh", customUserDetails.getUsername(),
-            customUserDetails.getAuthorities().iterator().next().getAuthority(), 86400000L);
+            customUserDetails.getAuthorities().iterator().next().getAuthority(), sessionId,
+            epoch, 86400000L);
 
-        refreshTokenService.saveRefreshToken(customUserDetails.getUsername(), refresh, 86400L);
+        refreshTokenService.saveRefreshToken(customUserDetails.getUsername(), sessionId, refresh,
+            86400L);
 
         response.setHeader("access", access);
         response.addCookie(createCookie("refresh", refresh));
@@ -73,6 +90,19 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         response.getWriter().flush();
     }
 
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) {
+        try {
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.setStatus(errorCode.getStatus().value());
+            response.getWriter().write("{\"errorCode\":\"" + errorCode.getCode()
+                + "\",\"message\":\"" + errorCode.getMessage() + "\"}");
+            response.getWriter().flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // 쿠키 생성 메서드
     private Cookie createCookie(String key, String value) {
         Cookie cookie = new Cookie(key, value);
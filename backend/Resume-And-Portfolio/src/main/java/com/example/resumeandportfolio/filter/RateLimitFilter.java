@@ -0,0 +1,206 @@
+package com.example.resumeandportfolio.filter;
+
+import com.example.resumeandportfolio.config.RateLimitProperties;
+import com.example.resumeandportfolio.exception.ErrorCode;
+import com.example.resumeandportfolio.util.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rate Limit Filter
+ *
+ * 인증 관련 공개 API(로그인, 회원 가입, 비밀번호 재설정, 토큰 재발급)에 IP별, 이메일별 요청 제한 적용
+ * 제한을 넘으면 BCrypt 해시나 메일 발송 전에 429와 Retry-After(초)로 응답
+ * 클라이언트 IP는 getRemoteAddr 기준 (프록시 뒤에서는 server.forward-headers-strategy 설정 필요)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // 이메일 추출을 위해 미리 읽는 JSON 본문 최대 크기
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 제한 대상 엔드포인트가 아니면 다음 필터로 넘김
+        String requestUri = request.getRequestURI();
+        String endpoint = null;
+        RateLimitProperties.Endpoint rule = null;
+        for (Map.Entry<String, RateLimitProperties.Endpoint> entry : properties.endpoints()
+            .entrySet()) {
+            if (matches(entry.getValue(), requestUri)) {
+                endpoint = entry.getKey();
+                rule = entry.getValue();
+                break;
+            }
+        }
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest target = request;
+        String email = null;
+        if (rule.getEmail() != null) {
+            email = request.getParameter("email");
+            if (email == null) {
+                email = request.getParameter("username"); // 로그인 폼
+            }
+            if (email == null && isJson(request)) {
+                CachedBodyRequest cached = new CachedBodyRequest(request);
+                email = cached.emailField(objectMapper);
+                target = cached;
+            }
+        }
+
+        long waitMs = rateLimiter.acquire(endpoint, rule, request.getRemoteAddr(), email);
+        if (waitMs > 0L) {
+            reject(response, waitMs);
+            return;
+        }
+
+        filterChain.doFilter(target, response);
+    }
+
+    private static boolean matches(RateLimitProperties.Endpoint rule, String requestUri) {
+        if (rule == null || rule.getPaths() == null) {
+            return false;
+        }
+        for (String path : rule.getPaths()) {
+            if (PATH_MATCHER.match(path, requestUri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).contains("json");
+    }
+
+    private void reject(HttpServletResponse response, long waitMs) throws IOException {
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMs + 999L) / 1000L));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), Map.of(
+            "errorCode", errorCode.getCode(),
+            "message", errorCode.getMessage()
+        ));
+    }
+
+    // 앞부분(최대 MAX_BODY_BYTES)을 미리 읽은 요청 - 컨트롤러에는 읽은 부분과 나머지를 이어서 전달
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final boolean complete;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            byte[] read = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            this.complete = read.length <= MAX_BODY_BYTES;
+            this.head = read;
+        }
+
+        // 본문 전체를 읽은 경우에만 email 필드 추출 (잘못된 JSON은 컨트롤러에서 처리)
+        private String emailField(ObjectMapper objectMapper) {
+            if (!complete || head.length == 0) {
+                return null;
+            }
+            try {
+                JsonNode email = objectMapper.readTree(head).get("email");
+                return email != null && email.isTextual() ? email.asText() : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            InputStream body = complete ? new ByteArrayInputStream(head)
+                : new SequenceInputStream(new ByteArrayInputStream(head),
+                    super.getInputStream());
+
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    return body.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return body.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    try {
+                        return body.available() == 0;
+                    } catch (IOException e) {
+                        return true;
+                    }
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 항상 읽을 수 있는 상태이므로 등록 즉시 데이터 도착과 읽기 완료를 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.resumeandportfolio.model.dto.user;
+
+import com.example.resumeandportfolio.model.enums.Role;
+
+/**
+ * 인증용 프로젝션 (엔티티 대신 이메일, 비밀번호, 역할만 조회)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public record UserCredentialsView(
+    String email,
+    String password,
+    Role role
+) {}
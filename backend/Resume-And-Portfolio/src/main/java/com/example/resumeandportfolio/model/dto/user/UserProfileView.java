@@ -0,0 +1,16 @@
+package com.example.resumeandportfolio.model.dto.user;
+
+import com.example.resumeandportfolio.model.enums.Role;
+
+/**
+ * 사용자 정보 조회용 프로젝션 (엔티티 대신 필요한 컬럼만 조회)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public record UserProfileView(
+    String email,
+    String nickname,
+    Role role
+) {}
@@ -0,0 +1,81 @@
+package com.example.resumeandportfolio.model.entity.mail;
+
+import com.example.resumeandportfolio.model.enums.MailOutboxStatus;
+import com.example.resumeandportfolio.model.enums.MailType;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Mail Outbox Entity
+ *
+ * 요청 트랜잭션에서는 발송할 메일만 기록하고, 실제 발송은 MailDeliveryWorker가 비동기로 처리
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Entity
+@Table(name = "mail_outbox", indexes = @Index(name = "idx_mail_outbox_status_next_attempt",
+    columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutbox {
+
+    // Mail ID(PK)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long mailId;
+
+    // 메일 종류
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailType type;
+
+    // 수신자
+    @Column(nullable = false, length = 255)
+    private String recipient;
+
+    // 메일 본문 링크에 들어갈 토큰 (DEAD 처리 시 삭제)
+    @Column(length = 255)
+    private String token;
+
+    // 메일 언어 (요청의 Accept-Language, 없으면 기본 언어 템플릿 사용)
+    @Column(length = 10)
+    private String locale;
+
+    // 상태
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailOutboxStatus status;
+
+    // 발송 시도 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 발송 시각 (발송 중이면 점유 만료 시각)
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 실패 사유
+    @Column(length = 500)
+    private String lastError;
+
+    // 생성 일자
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public MailOutbox(MailType type, String recipient, String token, String locale) {
+        this.type = type;
+        this.recipient = recipient;
+        this.token = token;
+        this.locale = locale;
+        this.status = MailOutboxStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
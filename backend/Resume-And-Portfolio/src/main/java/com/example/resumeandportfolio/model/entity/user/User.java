@@ -2,6 +2,7 @@ package com.example.resumeandportfolio.model.entity.user;
 
 import com.example.resumeandportfolio.model.entity.global.BaseEntity;
 import com.example.resumeandportfolio.model.enums.Role;
+import com.example.resumeandportfolio.util.id.TimeSortedId;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -17,14 +18,15 @@ import lombok.NoArgsConstructor;
  */
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_email_deleted_at",
+    columnList = "email, deleted_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
     // User ID(PK)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long userId;
 
     // 이메일
@@ -0,0 +1,16 @@
+package com.example.resumeandportfolio.model.enums;
+
+/**
+ * Mail Outbox Status Enum
+ *
+ * 발송에 성공한 메일은 행을 삭제하므로 대기, 발송 중, 발송 포기(dead letter) 상태만 존재
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public enum MailOutboxStatus {
+    PENDING,
+    SENDING,
+    DEAD
+}
@@ -0,0 +1,13 @@
+package com.example.resumeandportfolio.model.enums;
+
+/**
+ * Mail Type Enum
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public enum MailType {
+    VERIFICATION,
+    PASSWORD_RESET
+}
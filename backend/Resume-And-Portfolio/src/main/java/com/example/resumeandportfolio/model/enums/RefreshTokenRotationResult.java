@@ -0,0 +1,21 @@
+package com.example.resumeandportfolio.model.enums;
+
+/**
+ * Refresh Token Rotation Result Enum
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public enum RefreshTokenRotationResult {
+    ROTATED,    // 교체 성공
+    STALE,      // 이미 교체되었거나 재사용된 토큰
+    NOT_FOUND;  // 저장된 토큰 없음 (로그아웃, 만료)
+
+    public static RefreshTokenRotationResult fromScriptResult(Long result) {
+        if (result == null || result == 0L) {
+            return NOT_FOUND;
+        }
+        return result > 0L ? ROTATED : STALE;
+    }
+}
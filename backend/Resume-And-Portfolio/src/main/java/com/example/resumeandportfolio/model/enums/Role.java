@@ -14,6 +14,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 @Getter
 public enum Role {
+    // 축약 토큰(CompactClaims)은 순서(ordinal)를 코드로 쓰므로 새 역할은 끝에 추가
     ADMIN("관리자"),
     VISITOR("방문자");
 
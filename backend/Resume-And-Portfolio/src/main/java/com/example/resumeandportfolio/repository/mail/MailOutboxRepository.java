@@ -0,0 +1,79 @@
+package com.example.resumeandportfolio.repository.mail;
+
+import com.example.resumeandportfolio.model.entity.mail.MailOutbox;
+import com.example.resumeandportfolio.model.enums.MailOutboxStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Mail Outbox Repository
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송 시각이 된 메일 조회 (오래된 순)
+    @Query("select m from MailOutbox m where m.status in :statuses and m.nextAttemptAt <= :now "
+        + "order by m.nextAttemptAt")
+    List<MailOutbox> findDue(@Param("statuses") Collection<MailOutboxStatus> statuses,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 갱신으로 메일 점유 (다른 노드가 먼저 점유했다면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = :sending, m.attempts = m.attempts + 1, "
+        + "m.nextAttemptAt = :leaseUntil "
+        + "where m.mailId = :mailId and m.status in :statuses and m.nextAttemptAt <= :now")
+    int claim(@Param("mailId") Long mailId, @Param("statuses") Collection<MailOutboxStatus> statuses,
+        @Param("sending") MailOutboxStatus sending, @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 발송 실패 후 재시도 예약
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = :status, m.nextAttemptAt = :nextAttemptAt, "
+        + "m.lastError = :lastError where m.mailId = :mailId")
+    int release(@Param("mailId") Long mailId, @Param("status") MailOutboxStatus status,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    // 발송 포기 (DEAD로 남기고 더 이상 필요 없는 토큰은 지움)
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = :dead, m.token = null, "
+        + "m.nextAttemptAt = :now, m.lastError = :lastError where m.mailId = :mailId")
+    int bury(@Param("mailId") Long mailId, @Param("dead") MailOutboxStatus dead,
+        @Param("now") LocalDateTime now, @Param("lastError") String lastError);
+
+    // 발송을 시작하지 못한 점유 취소 (점유 시 증가한 시도 횟수도 되돌림)
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = :pending, m.attempts = m.attempts - 1, "
+        + "m.nextAttemptAt = :now where m.mailId = :mailId and m.status = :sending")
+    int unclaim(@Param("mailId") Long mailId, @Param("pending") MailOutboxStatus pending,
+        @Param("sending") MailOutboxStatus sending, @Param("now") LocalDateTime now);
+
+    // 토큰 만료 시각이 지난 DEAD 메일 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from MailOutbox m where m.status = :dead and m.createdAt <= :expiredBefore")
+    int purgeDead(@Param("dead") MailOutboxStatus dead,
+        @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    // 발송 완료된 메일 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from MailOutbox m where m.mailId = :mailId")
+    int deleteSent(@Param("mailId") Long mailId);
+
+    // 상태별 메일 수
+    long countByStatus(MailOutboxStatus status);
+}
@@ -0,0 +1,237 @@
+package com.example.resumeandportfolio.repository.token;
+
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
+import com.example.resumeandportfolio.util.jwt.TokenDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+/**
+ * In-Memory Refresh Token Store
+ *
+ * Redis 없이 로컬 개발/단일 인스턴스에서 사용하는 저장소
+ * 사용자 이름 해시로 나눈 락 스트라이프 단위로 복합 연산을 직렬화하고,
+ * 1초 단위 타이밍 휠로 만료된 세션을 정리 (세션당 예약 항목 하나, 교체 시 만료 때 재예약)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Repository
+@ConditionalOnProperty(name = "spring.jwt.refresh.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int STRIPES = 64;
+    private static final int WHEEL_SLOTS = 1024;
+
+    private final Map<String, Map<String, Session>> sessions = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final List<Queue<Expiry>> wheel = new ArrayList<>(WHEEL_SLOTS);
+    private final ReentrantLock tickLock = new ReentrantLock();
+    private long lastTick = epochSeconds();
+
+    public InMemoryRefreshTokenStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    @Override
+    public void save(String username, String sessionId, String digest, long expiresAt, long now,
+        int maxSessions) {
+        ReentrantLock lock = lockFor(username);
+        lock.lock();
+        try {
+            Map<String, Session> userSessions = sessions.computeIfAbsent(username,
+                key -> new HashMap<>());
+            userSessions.values().removeIf(session -> session.expiresAt() <= now);
+
+            List<Map.Entry<String, Session>> others = new ArrayList<>();
+            for (Map.Entry<String, Session> entry : userSessions.entrySet()) {
+                if (!entry.getKey().equals(sessionId)) {
+                    others.add(entry);
+                }
+            }
+            if (others.size() >= maxSessions) {
+                others.sort(Comparator.comparingLong(entry -> entry.getValue().expiresAt()));
+                others.subList(0, others.size() - maxSessions + 1)
+                    .forEach(entry -> userSessions.remove(entry.getKey()));
+            }
+
+            // 기존 세션을 덮어쓰는 경우 이미 예약된 항목이 만료 시각을 다시 예약
+            if (userSessions.put(sessionId, new Session(digest, expiresAt)) == null) {
+                schedule(username, sessionId, expiresAt);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String findDigest(String username, String sessionId, long now) {
+        ReentrantLock lock = lockFor(username);
+        lock.lock();
+        try {
+            Map<String, Session> userSessions = sessions.get(username);
+            Session session = userSessions == null ? null : userSessions.get(sessionId);
+
+            return session == null || session.expiresAt() <= now ? null : session.digest();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public RefreshTokenRotationResult rotate(String username, String sessionId,
+        String presentedDigest, String newDigest, long expiresAt, long now) {
+        ReentrantLock lock = lockFor(username);
+        lock.lock();
+        try {
+            Map<String, Session> userSessions = sessions.get(username);
+            Session session = userSessions == null ? null : userSessions.get(sessionId);
+            if (session == null) {
+                return RefreshTokenRotationResult.NOT_FOUND;
+            }
+            if (session.expiresAt() <= now) {
+                removeSession(username, userSessions, sessionId);
+                return RefreshTokenRotationResult.NOT_FOUND;
+            }
+            if (!TokenDigest.matches(session.digest(), presentedDigest)) {
+                removeSession(username, userSessions, sessionId);
+                return RefreshTokenRotationResult.STALE;
+            }
+
+            userSessions.put(sessionId, new Session(newDigest, expiresAt));
+        } finally {
+            lock.unlock();
+        }
+
+        return RefreshTokenRotationResult.ROTATED;
+    }
+
+    @Override
+    public void delete(String username, String sessionId) {
+        ReentrantLock lock = lockFor(username);
+        lock.lock();
+        try {
+            Map<String, Session> userSessions = sessions.get(username);
+            if (userSessions != null) {
+                removeSession(username, userSessions, sessionId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll(String username) {
+        ReentrantLock lock = lockFor(username);
+        lock.lock();
+        try {
+            sessions.remove(username);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 1초마다 타이밍 휠을 진행하며 만료된 세션 정리
+    @Scheduled(fixedRate = 1000)
+    public void tick() {
+        expireUpTo(epochSeconds());
+    }
+
+    // 마지막 틱 이후 now까지의 슬롯을 순회하며 만료된 세션 제거
+    void expireUpTo(long now) {
+        tickLock.lock();
+        try {
+            long from = Math.max(lastTick + 1, now - WHEEL_SLOTS + 1);
+            for (long second = from; second <= now; second++) {
+                Queue<Expiry> slot = wheel.get(slotOf(second));
+                for (int pending = slot.size(); pending > 0; pending--) {
+                    Expiry expiry = slot.poll();
+                    if (expiry == null) {
+                        break;
+                    }
+                    if (expiry.expiresAt() > now) {
+                        // 휠 한 바퀴 이후에 만료되는 항목은 다시 넣어 다음 바퀴에 처리
+                        slot.offer(expiry);
+                    } else {
+                        expire(expiry);
+                    }
+                }
+            }
+            lastTick = Math.max(lastTick, now);
+        } finally {
+            tickLock.unlock();
+        }
+    }
+
+    // 저장된 세션 수 (만료됐지만 아직 정리되지 않은 세션 포함)
+    int sessionCount() {
+        return sessions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void expire(Expiry expiry) {
+        ReentrantLock lock = lockFor(expiry.username());
+        lock.lock();
+        try {
+            Map<String, Session> userSessions = sessions.get(expiry.username());
+            Session session = userSessions == null ? null : userSessions.get(expiry.sessionId());
+            if (session == null) {
+                return;
+            }
+            if (session.expiresAt() > expiry.expiresAt()) {
+                // 교체되어 만료 시각이 늘어난 세션은 새 만료 시각으로 다시 예약
+                schedule(expiry.username(), expiry.sessionId(), session.expiresAt());
+            } else {
+                removeSession(expiry.username(), userSessions, expiry.sessionId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeSession(String username, Map<String, Session> userSessions,
+        String sessionId) {
+        userSessions.remove(sessionId);
+        if (userSessions.isEmpty()) {
+            sessions.remove(username);
+        }
+    }
+
+    private void schedule(String username, String sessionId, long expiresAt) {
+        wheel.get(slotOf(expiresAt)).offer(new Expiry(username, sessionId, expiresAt));
+    }
+
+    private ReentrantLock lockFor(String username) {
+        return locks[(username.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private int slotOf(long second) {
+        return (int) Math.floorMod(second, (long) WHEEL_SLOTS);
+    }
+
+    private static long epochSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private record Session(String digest, long expiresAt) {
+
+    }
+
+    private record Expiry(String username, String sessionId, long expiresAt) {
+
+    }
+}
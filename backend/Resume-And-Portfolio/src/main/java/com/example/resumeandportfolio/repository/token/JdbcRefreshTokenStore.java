@@ -0,0 +1,141 @@
+package com.example.resumeandportfolio.repository.token;
+
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
+import com.example.resumeandportfolio.util.jwt.TokenDigest;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * JDBC Refresh Token Store
+ *
+ * Redis 없이 기존 데이터베이스의 refresh_tokens 테이블에 세션을 저장 (테이블은 Flyway 마이그레이션으로 생성)
+ * 교체는 행 잠금(SELECT ... FOR UPDATE) 후 애플리케이션에서 상수 시간 비교
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Repository
+@ConditionalOnProperty(name = "spring.jwt.refresh.store", havingValue = "jdbc")
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private static final RowMapper<Session> SESSION_MAPPER = (rs, rowNum) ->
+        new Session(rs.getString("session_id"), rs.getString("token_digest"),
+            rs.getLong("expires_at"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcRefreshTokenStore(JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void save(String username, String sessionId, String digest, long expiresAt, long now,
+        int maxSessions) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Session> userSessions = jdbcTemplate.query(
+                "SELECT session_id, token_digest, expires_at FROM refresh_tokens "
+                    + "WHERE username = ? ORDER BY expires_at FOR UPDATE",
+                SESSION_MAPPER, username);
+
+            List<Session> live = userSessions.stream()
+                .filter(session -> session.expiresAt() > now)
+                .filter(session -> !session.sessionId().equals(sessionId))
+                .toList();
+            List<Session> evicted = live.subList(0, Math.max(0, live.size() - maxSessions + 1));
+
+            for (Session session : userSessions) {
+                if (session.expiresAt() <= now || evicted.contains(session)) {
+                    deleteRow(username, session.sessionId());
+                }
+            }
+
+            int updated = jdbcTemplate.update(
+                "UPDATE refresh_tokens SET token_digest = ?, expires_at = ? "
+                    + "WHERE username = ? AND session_id = ?",
+                digest, expiresAt, username, sessionId);
+            if (updated == 0) {
+                jdbcTemplate.update(
+                    "INSERT INTO refresh_tokens (username, session_id, token_digest, expires_at) "
+                        + "VALUES (?, ?, ?, ?)",
+                    username, sessionId, digest, expiresAt);
+            }
+        });
+    }
+
+    @Override
+    public String findDigest(String username, String sessionId, long now) {
+        List<String> digests = jdbcTemplate.queryForList(
+            "SELECT token_digest FROM refresh_tokens "
+                + "WHERE username = ? AND session_id = ? AND expires_at > ?",
+            String.class, username, sessionId, now);
+
+        return digests.isEmpty() ? null : digests.get(0);
+    }
+
+    @Override
+    public RefreshTokenRotationResult rotate(String username, String sessionId,
+        String presentedDigest, String newDigest, long expiresAt, long now) {
+        return transactionTemplate.execute(status -> {
+            List<Session> rows = jdbcTemplate.query(
+                "SELECT session_id, token_digest, expires_at FROM refresh_tokens "
+                    + "WHERE username = ? AND session_id = ? FOR UPDATE",
+                SESSION_MAPPER, username, sessionId);
+            if (rows.isEmpty()) {
+                return RefreshTokenRotationResult.NOT_FOUND;
+            }
+
+            Session session = rows.get(0);
+            if (session.expiresAt() <= now) {
+                deleteRow(username, sessionId);
+                return RefreshTokenRotationResult.NOT_FOUND;
+            }
+            if (!TokenDigest.matches(session.digest(), presentedDigest)) {
+                deleteRow(username, sessionId);
+                return RefreshTokenRotationResult.STALE;
+            }
+
+            jdbcTemplate.update(
+                "UPDATE refresh_tokens SET token_digest = ?, expires_at = ? "
+                    + "WHERE username = ? AND session_id = ?",
+                newDigest, expiresAt, username, sessionId);
+
+            return RefreshTokenRotationResult.ROTATED;
+        });
+    }
+
+    @Override
+    public void delete(String username, String sessionId) {
+        deleteRow(username, sessionId);
+    }
+
+    @Override
+    public void deleteAll(String username) {
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE username = ?", username);
+    }
+
+    // 다시 로그인하지 않는 사용자의 만료된 세션 정리
+    @Scheduled(fixedDelayString = "${spring.jwt.refresh.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE expires_at <= ?",
+            System.currentTimeMillis() / 1000);
+    }
+
+    private void deleteRow(String username, String sessionId) {
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE username = ? AND session_id = ?",
+            username, sessionId);
+    }
+
+    private record Session(String sessionId, String digest, long expiresAt) {
+
+    }
+}
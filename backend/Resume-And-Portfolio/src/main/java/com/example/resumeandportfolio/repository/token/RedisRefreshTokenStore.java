@@ -0,0 +1,132 @@
+package com.example.resumeandportfolio.repository.token;
+
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis Refresh Token Store
+ *
+ * 사용자별 Hash(refresh-sessions:{username})에 세션(기기) ID별로
+ * "{만료 epoch초(36진수)}:{토큰 SHA-256 다이제스트(base64url)}" 형태로 저장
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Repository
+@ConditionalOnProperty(name = "spring.jwt.refresh.store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh-sessions:";
+
+    // 만료된 세션 정리 후 최대 세션 수를 넘으면 가장 먼저 만료되는 세션부터 제거하고 저장
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+        local now = tonumber(ARGV[3])
+        local ttl = tonumber(ARGV[4])
+        local maxSessions = tonumber(ARGV[5])
+        local entries = redis.call('HGETALL', KEYS[1])
+        local live = {}
+        for i = 1, #entries, 2 do
+            local exp = tonumber(string.match(entries[i + 1], '^(%w+):'), 36)
+            if exp == nil or exp <= now then
+                redis.call('HDEL', KEYS[1], entries[i])
+            elseif entries[i] ~= ARGV[1] then
+                table.insert(live, {entries[i], exp})
+            end
+        end
+        table.sort(live, function(a, b) return a[2] < b[2] end)
+        for i = 1, #live - maxSessions + 1 do
+            redis.call('HDEL', KEYS[1], live[i][1])
+        end
+        redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+        if redis.call('TTL', KEYS[1]) < ttl then
+            redis.call('EXPIRE', KEYS[1], ttl)
+        end
+        return 1
+        """, Long.class);
+
+    // 세션의 다이제스트와 상수 시간 비교 후 일치하면 교체 (1: 교체, -1: 불일치 - 세션 폐기, 0: 없음)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('HGET', KEYS[1], ARGV[1])
+        if not current then
+            return 0
+        end
+        local sep = string.find(current, ':', 1, true)
+        if tonumber(string.sub(current, 1, sep - 1), 36) <= tonumber(ARGV[4]) then
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            return 0
+        end
+        local stored = string.sub(current, sep + 1)
+        local presented = ARGV[2]
+        local diff = #stored == #presented and 0 or 1
+        for i = 1, math.min(#stored, #presented) do
+            diff = bit.bor(diff, bit.bxor(string.byte(stored, i), string.byte(presented, i)))
+        end
+        if diff ~= 0 then
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            return -1
+        end
+        redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+        if redis.call('TTL', KEYS[1]) < tonumber(ARGV[5]) then
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+        end
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(String username, String sessionId, String digest, long expiresAt, long now,
+        int maxSessions) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(KEY_PREFIX + username), sessionId,
+            encode(expiresAt, digest), String.valueOf(now), String.valueOf(expiresAt - now),
+            String.valueOf(maxSessions));
+    }
+
+    @Override
+    public String findDigest(String username, String sessionId, long now) {
+        Object value = redisTemplate.opsForHash().get(KEY_PREFIX + username, sessionId);
+        if (value == null) {
+            return null;
+        }
+
+        String entry = value.toString();
+        int sep = entry.indexOf(':');
+        if (sep < 0 || Long.parseLong(entry.substring(0, sep), 36) <= now) {
+            return null;
+        }
+
+        return entry.substring(sep + 1);
+    }
+
+    @Override
+    public RefreshTokenRotationResult rotate(String username, String sessionId,
+        String presentedDigest, String newDigest, long expiresAt, long now) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + username),
+            sessionId, presentedDigest, encode(expiresAt, newDigest), String.valueOf(now),
+            String.valueOf(expiresAt - now));
+
+        return RefreshTokenRotationResult.fromScriptResult(result);
+    }
+
+    @Override
+    public void delete(String username, String sessionId) {
+        redisTemplate.opsForHash().delete(KEY_PREFIX + username, sessionId);
+    }
+
+    @Override
+    public void deleteAll(String username) {
+        redisTemplate.delete(KEY_PREFIX + username);
+    }
+
+    private String encode(long expiresAt, String digest) {
+        return Long.toString(expiresAt, 36) + ":" + digest;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.resumeandportfolio.repository.token;
+
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
+
+/**
+ * Refresh Token Store
+ *
+ * 사용자별 세션(기기) ID마다 Refresh 토큰 다이제스트와 만료 시각(epoch초)을 보관
+ * 구현체는 spring.jwt.refresh.store 설정(redis, memory, jdbc)으로 선택
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public interface RefreshTokenStore {
+
+    // 세션 저장 (만료 세션 정리, 최대 세션 수 초과 시 가장 먼저 만료되는 세션부터 제거)
+    void save(String username, String sessionId, String digest, long expiresAt, long now,
+        int maxSessions);
+
+    // 세션 다이제스트 조회 (없거나 만료된 경우 null)
+    String findDigest(String username, String sessionId, long now);
+
+    // 제시된 다이제스트와 비교 후 일치하면 교체, 불일치하면 세션 폐기
+    RefreshTokenRotationResult rotate(String username, String sessionId, String presentedDigest,
+        String newDigest, long expiresAt, long now);
+
+    // 세션 하나 삭제
+    void delete(String username, String sessionId);
+
+    // 사용자의 모든 세션 삭제
+    void deleteAll(String username);
+}
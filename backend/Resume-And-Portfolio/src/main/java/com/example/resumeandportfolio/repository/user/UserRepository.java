@@ -1,7 +1,11 @@
 package com.example.resumeandportfolio.repository.user;
 
+import com.example.resumeandportfolio.model.dto.user.UserCredentialsView;
+import com.example.resumeandportfolio.model.dto.user.UserProfileView;
 import com.example.resumeandportfolio.model.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -22,4 +26,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 이메일로 삭제되지 않은 사용자 찾기
     Optional<User> findByEmailAndDeletedAtIsNull(String email);
-}
\ No newline at end of file
+
+    // 이메일로 삭제되지 않은 사용자 정보 조회 (엔티티 없이 이메일, 닉네임, 역할만 조회)
+    @Query("select new com.example.resumeandportfolio.model.dto.user.UserProfileView("
+        + "u.email, u.nickname, u.role) from User u where u.email = :email and u.deletedAt is null")
+    Optional<UserProfileView> findProfileByEmail(@Param("email") String email);
+
+    // 이메일로 삭제되지 않은 사용자의 인증 정보 조회 (엔티티 없이 이메일, 비밀번호, 역할만 조회)
+    @Query("select new com.example.resumeandportfolio.model.dto.user.UserCredentialsView("
+        + "u.email, u.password, u.role) from User u where u.email = :email and u.deletedAt is null")
+    Optional<UserCredentialsView> findCredentialsByEmail(@Param("email") String email);
+}
@@ -0,0 +1,240 @@
+package com.example.resumeandportfolio.service.mail;
+
+import com.example.resumeandportfolio.model.entity.mail.MailOutbox;
+import com.example.resumeandportfolio.model.enums.MailOutboxStatus;
+import com.example.resumeandportfolio.repository.mail.MailOutboxRepository;
+import com.example.resumeandportfolio.util.mail.MailUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mail Delivery Worker
+ *
+ * outbox를 주기적으로 조회해 발송 시각이 된 메일을 조건부 갱신으로 점유하고 고정 크기 스레드 풀에서 발송
+ * 점유한 메일은 batch-size 단위로 묶어 한 번의 send 호출(SMTP 연결 하나)로 발송
+ * 실패하면 지수 백오프(지터 포함)로 재시도를 예약하고, 최대 시도 횟수를 넘으면 토큰을 지운 채 DEAD로 남김
+ * DEAD 메일은 토큰 만료 시각이 지나면 삭제
+ * 점유 기한이 지난 발송 중 메일(노드 장애 등)은 다시 발송 대상이 되므로 SMTP 타임아웃은 점유 기한보다 짧게 설정
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Component
+public class MailDeliveryWorker {
+
+    private static final Set<MailOutboxStatus> CLAIMABLE =
+        EnumSet.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailUtil mailUtil;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
+    private final Duration tokenExpiration;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Timer deliveryLatency;
+    private final Timer sendDuration;
+
+    public MailDeliveryWorker(MailOutboxRepository mailOutboxRepository, MailUtil mailUtil,
+        MeterRegistry meterRegistry,
+        @Value("${mail.outbox.workers:4}") int workers,
+        @Value("${mail.outbox.queue-capacity:100}") int queueCapacity,
+        @Value("${mail.outbox.batch-size:20}") int batchSize,
+        @Value("${mail.outbox.max-attempts:8}") int maxAttempts,
+        @Value("${mail.outbox.backoff-ms:30000}") long backoffMs,
+        @Value("${mail.outbox.max-backoff-ms:3600000}") long maxBackoffMs,
+        @Value("${mail.outbox.lease-ms:120000}") long leaseMs,
+        @Value("${verification.token.expiration.hours}") int tokenExpirationHours) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailUtil = mailUtil;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+        this.tokenExpiration = Duration.ofHours(tokenExpirationHours);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> new Thread(runnable, "mail-delivery-" + threadNumber.incrementAndGet()));
+
+        Gauge.builder("mail.outbox.depth", pending, AtomicLong::get)
+            .tag("status", "pending")
+            .register(meterRegistry);
+        Gauge.builder("mail.outbox.depth", dead, AtomicLong::get)
+            .tag("status", "dead")
+            .register(meterRegistry);
+        Gauge.builder("mail.outbox.workers.active", executor, ThreadPoolExecutor::getActiveCount)
+            .register(meterRegistry);
+        this.sent = meterRegistry.counter("mail.delivery.attempts", "result", "sent");
+        this.retried = meterRegistry.counter("mail.delivery.attempts", "result", "retry");
+        this.deadLettered = meterRegistry.counter("mail.delivery.attempts", "result", "dead");
+        this.deliveryLatency = Timer.builder("mail.delivery.latency")
+            .description("outbox 기록부터 발송 완료까지 걸린 시간")
+            .register(meterRegistry);
+        this.sendDuration = Timer.builder("mail.delivery.send")
+            .description("SMTP 발송 호출 시간 (배치 단위)")
+            .register(meterRegistry);
+    }
+
+    // 발송 시각이 된 메일을 작업 큐 여유만큼 점유해 배치 단위로 발송 요청
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity > 0) {
+            LocalDateTime now = LocalDateTime.now();
+            List<MailOutbox> due = mailOutboxRepository.findDue(CLAIMABLE, now,
+                PageRequest.of(0, capacity * batchSize));
+
+            List<MailOutbox> batch = new ArrayList<>(batchSize);
+            for (MailOutbox mail : due) {
+                if (mailOutboxRepository.claim(mail.getMailId(), CLAIMABLE,
+                    MailOutboxStatus.SENDING, now, now.plus(Duration.ofMillis(leaseMs))) == 1) {
+                    batch.add(mail);
+                }
+                if (batch.size() == batchSize) {
+                    submit(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(batch);
+            }
+        }
+
+        pending.set(mailOutboxRepository.countByStatus(MailOutboxStatus.PENDING));
+        dead.set(mailOutboxRepository.countByStatus(MailOutboxStatus.DEAD));
+    }
+
+    private void submit(List<MailOutbox> batch) {
+        try {
+            executor.execute(() -> deliver(batch));
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 차면 발송을 시도하지 않았으므로 시도 횟수를 되돌리고 바로 다시 대기 상태로
+            for (MailOutbox mail : batch) {
+                mailOutboxRepository.unclaim(mail.getMailId(), MailOutboxStatus.PENDING,
+                    MailOutboxStatus.SENDING, LocalDateTime.now());
+            }
+        }
+    }
+
+    // 배치 발송 후 성공한 메일은 outbox에서 삭제, 실패한 메일은 재시도 예약 또는 DEAD 처리
+    void deliver(List<MailOutbox> batch) {
+        List<MailOutbox> prepared = new ArrayList<>(batch.size());
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (MailOutbox mail : batch) {
+            try {
+                messages.add(switch (mail.getType()) {
+                    case VERIFICATION -> mailUtil.verificationMail(mail.getRecipient(),
+                        mail.getToken(), mail.getLocale());
+                    case PASSWORD_RESET -> mailUtil.passwordResetMail(mail.getRecipient(),
+                        mail.getToken(), mail.getLocale());
+                });
+                prepared.add(mail);
+            } catch (RuntimeException e) {
+                fail(mail, e);
+            }
+        }
+        if (prepared.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
+        long start = System.nanoTime();
+        try {
+            mailUtil.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages(); // 메일별 실패 (나머지는 발송 완료)
+        } catch (RuntimeException e) {
+            sendDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            prepared.forEach(mail -> fail(mail, e));
+            return;
+        }
+        sendDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        for (int i = 0; i < prepared.size(); i++) {
+            MailOutbox mail = prepared.get(i);
+            Exception failure = failedMessages.get(messages.get(i));
+            if (failure != null) {
+                fail(mail, failure);
+                continue;
+            }
+
+            mailOutboxRepository.deleteSent(mail.getMailId());
+            sent.increment();
+            deliveryLatency.record(Duration.between(mail.getCreatedAt(), LocalDateTime.now()));
+        }
+    }
+
+    private void fail(MailOutbox mail, Exception e) {
+        int attempt = mail.getAttempts() + 1; // 점유 시 증가한 시도 횟수
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (attempt >= maxAttempts) {
+            mailOutboxRepository.bury(mail.getMailId(), MailOutboxStatus.DEAD,
+                LocalDateTime.now(), error);
+            deadLettered.increment();
+            return;
+        }
+
+        mailOutboxRepository.release(mail.getMailId(), MailOutboxStatus.PENDING,
+            LocalDateTime.now().plus(Duration.ofMillis(backoff(attempt))), error);
+        retried.increment();
+    }
+
+    // 토큰이 만료되어 다시 보낼 수 없는 DEAD 메일 정리
+    @Scheduled(fixedDelayString = "${mail.outbox.purge-interval-ms:600000}")
+    public void purgeDead() {
+        mailOutboxRepository.purgeDead(MailOutboxStatus.DEAD,
+            LocalDateTime.now().minus(tokenExpiration));
+    }
+
+    // 지수 백오프 (상한 적용 후 절반~전체 범위에서 무작위로 골라 재시도 시각 분산)
+    long backoff(int attempt) {
+        long delay = Math.min(maxBackoffMs, backoffMs << Math.min(attempt - 1, 30));
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
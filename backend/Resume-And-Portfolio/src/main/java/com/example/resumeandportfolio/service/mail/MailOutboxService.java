@@ -0,0 +1,45 @@
+package com.example.resumeandportfolio.service.mail;
+
+import com.example.resumeandportfolio.model.entity.mail.MailOutbox;
+import com.example.resumeandportfolio.model.enums.MailType;
+import com.example.resumeandportfolio.repository.mail.MailOutboxRepository;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Mail Outbox Service
+ *
+ * 메일 발송 요청을 호출한 트랜잭션 안에서 outbox에 기록 (SMTP 지연이 요청 스레드와 DB 커넥션을 붙잡지 않음)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    // 발송할 메일 기록 (호출한 트랜잭션이 커밋되어야 발송 대상이 됨)
+    @Transactional
+    public void enqueue(MailType type, String recipient, String token) {
+        mailOutboxRepository.save(MailOutbox.builder()
+            .type(type)
+            .recipient(recipient)
+            .token(token)
+            .locale(requestLanguage())
+            .build());
+    }
+
+    // 요청 처리 중이면 요청 언어, 아니면 null (기본 언어)
+    private static String requestLanguage() {
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        Locale locale = localeContext != null ? localeContext.getLocale() : null;
+        return locale != null && !locale.getLanguage().isEmpty() ? locale.getLanguage() : null;
+    }
+}
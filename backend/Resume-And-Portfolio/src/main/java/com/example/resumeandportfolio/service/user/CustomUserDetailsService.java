@@ -3,14 +3,16 @@ package com.example.resumeandportfolio.service.user;
 import com.example.resumeandportfolio.exception.CustomException;
 import com.example.resumeandportfolio.exception.ErrorCode;
 import java.util.List;
-import com.example.resumeandportfolio.model.entity.user.User;
+import com.example.resumeandportfolio.model.dto.user.UserCredentialsView;
 import com.example.resumeandportfolio.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Custom User Details Service
@@ -21,21 +23,33 @@ import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        // 데이터베이스에서 사용자 검색
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
+        // 데이터베이스에서 인증에 필요한 컬럼만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+        UserCredentialsView user = userRepository.findCredentialsByEmail(email)
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // UserDetails 객체 생성 및 반환
         return new org.springframework.security.core.userdetails.User(
-            user.getEmail(),
-            user.getPassword(),
-            List.of(new SimpleGrantedAuthority(user.getRole().name())) // 권한 설정
+            user.email(),
+            user.password(),
+            List.of(new SimpleGrantedAuthority(user.role().name())) // 권한 설정
         );
     }
+
+    // 로그인 성공 후 cost가 낮거나 다른 알고리즘인 해시를 새 해시로 교체 (DaoAuthenticationProvider가 호출)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        userRepository.findByEmailAndDeletedAtIsNull(userDetails.getUsername())
+            .ifPresent(user -> user.updatePassword(newPassword));
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+            .password(newPassword)
+            .build();
+    }
 }
\ No newline at end of file
@@ -1,14 +1,17 @@
 package com.example.resumeandportfolio.service.user;
 
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
+import com.example.resumeandportfolio.repository.token.RefreshTokenStore;
+import com.example.resumeandportfolio.util.jwt.TokenDigest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * Refresh Token Service
  *
+ * 토큰 원문 대신 SHA-256 다이제스트를 세션(기기) ID별로 RefreshTokenStore에 저장
+ *
  * @author Ji-Seungwoo
  * @version 1.0
  */
@@ -17,21 +20,47 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+
+    // 사용자당 최대 동시 세션 수
+    @Value("${spring.jwt.refresh.max-sessions:5}")
+    private int maxSessions;
+
+    // Refresh Token 저장 (토큰 원문 대신 다이제스트 저장)
+    public void saveRefreshToken(String username, String sessionId, String refreshToken,
+        long duration) {
+        long now = epochSeconds();
+        refreshTokenStore.save(username, sessionId, TokenDigest.sha256(refreshToken),
+            now + duration, now, maxSessions);
+    }
+
+    // 제시된 Refresh Token이 세션에 저장된 토큰과 일치하는지 확인
+    public boolean matchesRefreshToken(String username, String sessionId, String refreshToken) {
+        String stored = refreshTokenStore.findDigest(username, sessionId, epochSeconds());
 
-    // Refresh Token 저장
-    public void saveRefreshToken(String username, String refreshToken, long duration) {
-        redisTemplate.opsForValue()
-            .set("refresh:" + username, refreshToken, duration, TimeUnit.SECONDS);
+        return stored != null && TokenDigest.matches(stored, TokenDigest.sha256(refreshToken));
     }
 
-    // Refresh Token 조회
-    public String getRefreshToken(String username) {
-        return redisTemplate.opsForValue().get("refresh:" + username);
+    // 세션 하나의 Refresh Token 삭제
+    public void deleteRefreshToken(String username, String sessionId) {
+        refreshTokenStore.delete(username, sessionId);
+    }
+
+    // 사용자의 모든 세션 Refresh Token 삭제
+    public void deleteAllRefreshTokens(String username) {
+        refreshTokenStore.deleteAll(username);
+    }
+
+    // Refresh Token 교체 (비교와 교체를 원자적으로 수행)
+    public RefreshTokenRotationResult rotateRefreshToken(String username, String sessionId,
+        String presentedToken, String newToken, long duration) {
+        long now = epochSeconds();
+
+        return refreshTokenStore.rotate(username, sessionId, TokenDigest.sha256(presentedToken),
+            TokenDigest.sha256(newToken), now + duration, now);
     }
 
-    // Refresh Token 삭제
-    public void deleteRefreshToken(String username) {
-        redisTemplate.delete("refresh:" + username);
+    private long epochSeconds() {
+        return System.currentTimeMillis() / 1000;
     }
-}
\ No newline at end of file
+}
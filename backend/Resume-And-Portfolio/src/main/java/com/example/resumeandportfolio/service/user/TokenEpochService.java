@@ -0,0 +1,106 @@
+package com.example.resumeandportfolio.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+/**
+ * Token Epoch Service
+ *
+ * 사용자별로 단조 증가하는 토큰 세대(token-epoch:{username})를 관리
+ * 토큰에는 발급 시점의 세대(ep)를 담고, 세대를 올리면 이전에 발급된 토큰은 모두 무효
+ * 검증은 로컬 캐시로 처리하고, 세대 변경은 pub/sub로 다른 노드의 캐시에 전파
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Service
+public class TokenEpochService implements MessageListener {
+
+    static final String KEY_PREFIX = "token-epoch:";
+    static final String CHANNEL = "token-epochs";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, Long> cache;
+
+    public TokenEpochService(StringRedisTemplate redisTemplate,
+        RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+        @Value("${spring.jwt.epoch.cache.maximum-size:10000}") long maximumSize,
+        @Value("${spring.jwt.epoch.cache.expire-after-ms:600000}") long expireAfterMs) {
+        this.redisTemplate = redisTemplate;
+        // 메시지가 유실되어도 Access 토큰 수명 안에는 Redis 값으로 다시 적재
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(expireAfterMs))
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.token-epochs");
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 토큰 발급 시 사용할 현재 세대 (Redis에서 최신 값을 읽고 로컬 캐시 갱신)
+    public long issueEpoch(String username) {
+        long epoch = readEpoch(username);
+        apply(username, epoch);
+
+        return epoch;
+    }
+
+    // 토큰의 세대가 현재 세대 이상인지 확인 (로컬 캐시, 없으면 Redis에서 적재)
+    public boolean isCurrent(String username, long epoch) {
+        try {
+            return epoch >= cache.get(username, this::readEpoch);
+        } catch (RuntimeException e) {
+            // Redis에 연결할 수 없으면 서명이 유효한 토큰은 통과 (가용성 우선)
+            return true;
+        }
+    }
+
+    // 세대를 올려 사용자의 모든 기존 토큰 무효화 (다른 노드에는 메시지 하나로 전파)
+    public long bumpEpoch(String username) {
+        Long epoch = redisTemplate.opsForValue().increment(KEY_PREFIX + username);
+        long current = epoch == null ? 0L : epoch;
+        apply(username, current);
+        redisTemplate.convertAndSend(CHANNEL, username + ":" + current);
+
+        return current;
+    }
+
+    // 다른 노드에서 올린 세대 반영 ("{username}:{epoch}")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.lastIndexOf(':');
+        if (sep <= 0) {
+            return;
+        }
+
+        try {
+            apply(body.substring(0, sep), Long.parseLong(body.substring(sep + 1)));
+        } catch (NumberFormatException ignored) {
+            // 형식이 잘못된 메시지는 무시
+        }
+    }
+
+    // 세대는 줄어들지 않으므로 더 큰 값만 반영
+    private void apply(String username, long epoch) {
+        cache.asMap().merge(username, epoch, Math::max);
+    }
+
+    private long readEpoch(String username) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + username);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.resumeandportfolio.service.user;
+
+import com.example.resumeandportfolio.model.dto.user.UserLoadInfoDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User Profile Cache
+ *
+ * 이메일별 사용자 정보(UserLoadInfoDto)를 노드 로컬 캐시(Caffeine)와 공유 캐시(Redis, user-profile:{email}) 두 단계로 보관
+ * 로컬 캐시에 없으면 Redis, Redis에도 없으면 DB에서 읽어 두 단계에 채움
+ * 변경 시에는 트랜잭션 커밋 후 두 단계에서 삭제하고 pub/sub로 다른 노드의 로컬 캐시도 삭제
+ * Redis에는 삭제 대신 짧은 삭제 표시(tombstone)를 남기고 DB에서 읽은 값은 키가 없을 때만 저장해,
+ * 커밋 전에 이전 값을 읽은 요청이 삭제 후에 Redis를 다시 채우지 못하게 함
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Service
+public class UserProfileCache implements MessageListener {
+
+    static final String KEY_PREFIX = "user-profile:";
+    static final String CHANNEL = "user-profiles";
+    static final String TOMBSTONE = "-";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, UserLoadInfoDto> cache;
+    private final Duration redisTtl;
+    private final Duration tombstoneTtl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public UserProfileCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+        RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+        @Value("${user.profile.cache.maximum-size:10000}") long maximumSize,
+        @Value("${user.profile.cache.local-expire-after-ms:60000}") long localExpireAfterMs,
+        @Value("${user.profile.cache.redis-ttl-ms:600000}") long redisTtlMs,
+        @Value("${user.profile.cache.tombstone-ms:10000}") long tombstoneMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        // 삭제 메시지가 유실되어도 로컬 만료 시간 안에는 Redis 값으로 다시 적재
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(localExpireAfterMs))
+            .recordStats()
+            .build();
+        this.redisTtl = Duration.ofMillis(redisTtlMs);
+        // 삭제 표시는 DB 조회부터 Redis 저장까지 걸리는 시간보다 길게 유지
+        this.tombstoneTtl = Duration.ofMillis(tombstoneMs);
+        this.redisHits = meterRegistry.counter("user.profile.cache.redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("user.profile.cache.redis", "result", "miss");
+        this.redisErrors = meterRegistry.counter("user.profile.cache.redis.errors");
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.profiles");
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 캐시된 사용자 정보 (없으면 loader로 DB에서 읽어 저장, loader의 예외는 캐시하지 않고 그대로 전달)
+    public UserLoadInfoDto get(String email, Function<String, UserLoadInfoDto> loader) {
+        return cache.get(email, key -> loadShared(key, loader));
+    }
+
+    // 사용자 정보 변경 후 삭제 (트랜잭션 안이면 커밋 후, 밖이면 바로)
+    public void evict(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictNow(email);
+                    }
+                });
+            return;
+        }
+        evictNow(email);
+    }
+
+    // 다른 노드에서 삭제한 사용자 정보 반영 ("{email}")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictNow(String email) {
+        cache.invalidate(email);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + email, TOMBSTONE, tombstoneTtl);
+            redisTemplate.convertAndSend(CHANNEL, email);
+        } catch (RuntimeException e) {
+            // Redis에 연결할 수 없으면 다른 노드는 로컬 만료 시간 후 반영
+            redisErrors.increment();
+        }
+    }
+
+    private UserLoadInfoDto loadShared(String email, Function<String, UserLoadInfoDto> loader) {
+        String key = KEY_PREFIX + email;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null && !TOMBSTONE.equals(cached)) {
+                redisHits.increment();
+                return objectMapper.readValue(cached, UserLoadInfoDto.class);
+            }
+            redisMisses.increment();
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis를 사용할 수 없거나 값이 잘못되었으면 DB에서 읽음
+            redisErrors.increment();
+        }
+
+        UserLoadInfoDto profile = loader.apply(email);
+        try {
+            // 그 사이 삭제되었으면(삭제 표시가 있으면) 저장하지 않음
+            redisTemplate.opsForValue()
+                .setIfAbsent(key, objectMapper.writeValueAsString(profile), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            redisErrors.increment();
+        }
+
+        return profile;
+    }
+}
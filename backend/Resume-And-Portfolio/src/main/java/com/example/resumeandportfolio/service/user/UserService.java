@@ -12,13 +12,13 @@ import com.example.resumeandportfolio.model.dto.user.UserUpdateRequest;
 import com.example.resumeandportfolio.model.dto.user.UserUpdateResponse;
 import com.example.resumeandportfolio.model.dto.user.VerificationTokenDto;
 import com.example.resumeandportfolio.model.entity.user.User;
+import com.example.resumeandportfolio.model.enums.MailType;
 import com.example.resumeandportfolio.model.enums.Role;
 import com.example.resumeandportfolio.repository.user.UserRepository;
-import com.example.resumeandportfolio.util.mail.MailUtil;
+import com.example.resumeandportfolio.service.mail.MailOutboxService;
 import com.example.resumeandportfolio.util.mapper.UserMapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +28,8 @@ import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * User's Service
@@ -44,18 +46,21 @@ public class UserService {
     private final UserRepository userRepository;
     private final StringRedisTemplate redisTemplate;
     private final PasswordEncoder passwordEncoder;
-    private final MailUtil mailUtil;
+    private final MailOutboxService mailOutboxService;
+    private final VerificationTokenService verificationTokenService;
     private final ObjectMapper objectMapper;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenEpochService tokenEpochService;
+    private final UserProfileCache userProfileCache;
 
     @Value("${verification.token.expiration.hours}")
     private int expirationHours;
 
-    // 이메일로 사용자 정보 가져오기
+    // 이메일로 사용자 정보 가져오기 (로컬 캐시 -> Redis -> DB 순서로 조회)
     public UserLoadInfoDto getUserByEmail(String email) {
-        User user = userRepository.findByEmailAndDeletedAtIsNull(email)
-            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        return UserMapper.toUserLoadInfoDto(user);
+        return userProfileCache.get(email, key -> UserMapper.toUserLoadInfoDto(
+            userRepository.findProfileByEmail(key)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND))));
     }
 
     // 로그인 로직
@@ -69,6 +74,11 @@ public class UserService {
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
         }
 
+        // cost가 낮거나 다른 알고리즘인 해시는 검증된 비밀번호로 다시 해시
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.updatePassword(passwordEncoder.encode(rawPassword));
+        }
+
         return UserMapper.toLoginResponse(user);
     }
 
@@ -85,22 +95,7 @@ public class UserService {
             throw new CustomException(ErrorCode.INVALID_PASSWORD_CONFIRMATION);
         }
 
-        // VerificationToken 생성 및 Redis 저장
-        String token = UUID.randomUUID().toString();
-        VerificationTokenDto verificationToken = new VerificationTokenDto(
-            token, request.email(), LocalDateTime.now().plusHours(expirationHours)
-        );
-
-        try {
-            ValueOperations<String, String> valueOps = redisTemplate.opsForValue();
-            valueOps.set("verification:token:" + token,
-                objectMapper.writeValueAsString(verificationToken),
-                Duration.ofHours(expirationHours));
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.REDIS_SAVE_ERROR);
-        }
-
-        mailUtil.sendVerificationMail(request.email(), token);
+        issueToken(MailType.VERIFICATION, request.email());
     }
 
     // 인증 이메일 재전송 로직
@@ -110,22 +105,7 @@ public class UserService {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
-        // 새로운 VerificationToken 생성 및 Redis 저장
-        String token = UUID.randomUUID().toString();
-        VerificationTokenDto verificationToken = new VerificationTokenDto(
-            token, email, LocalDateTime.now().plusHours(expirationHours)
-        );
-
-        try {
-            ValueOperations<String, String> valueOps = redisTemplate.opsForValue();
-            valueOps.set("verification:token:" + token,
-                objectMapper.writeValueAsString(verificationToken),
-                Duration.ofHours(expirationHours));
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.REDIS_SAVE_ERROR);
-        }
-
-        mailUtil.sendVerificationMail(email, token);
+        issueToken(MailType.VERIFICATION, email);
     }
 
     // 회원 가입 완료 로직
@@ -189,9 +169,11 @@ public class UserService {
         if (request.newPassword() != null) {
             String encodedPassword = passwordEncoder.encode(request.newPassword());
             user.updatePassword(encodedPassword);
+            revokeAllSessions(email);
         }
 
         User updatedUser = userRepository.save(user);
+        userProfileCache.evict(email);
 
         return UserMapper.toUpdateResponse(updatedUser);
     }
@@ -207,6 +189,8 @@ public class UserService {
         }
 
         user.delete();
+        revokeAllSessions(email);
+        userProfileCache.evict(email);
     }
 
     // 비밀번호 재설정 요청 로직
@@ -215,21 +199,7 @@ public class UserService {
         User user = userRepository.findByEmailAndDeletedAtIsNull(request.email())
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        String token = UUID.randomUUID().toString();
-        VerificationTokenDto verificationToken = new VerificationTokenDto(
-            token, user.getEmail(), LocalDateTime.now().plusHours(expirationHours)
-        );
-
-        try {
-            ValueOperations<String, String> valueOps = redisTemplate.opsForValue();
-            valueOps.set("password-reset:token:" + token,
-                objectMapper.writeValueAsString(verificationToken),
-                Duration.ofHours(expirationHours));
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.REDIS_SAVE_ERROR);
-        }
-
-        mailUtil.sendPasswordResetMail(user.getEmail(), token);
+        issueToken(MailType.PASSWORD_RESET, user.getEmail());
     }
 
     // 비밀번호 재설정 확인 로직
@@ -254,10 +224,54 @@ public class UserService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
             String encodedPassword = passwordEncoder.encode(request.newPassword());
             user.updatePassword(encodedPassword);
+            revokeAllSessions(user.getEmail());
+            userProfileCache.evict(user.getEmail());
         } catch (JsonProcessingException e) {
             throw new CustomException(ErrorCode.REDIS_PARSE_ERROR);
         } finally {
             redisTemplate.delete(redisKey);
         }
     }
+
+    // VerificationToken 생성 및 Redis 저장 후 메일 발송 요청 (최근 발송한 토큰이 있으면 생략)
+    private void issueToken(MailType type, String email) {
+        String token = UUID.randomUUID().toString();
+        VerificationTokenDto verificationToken = new VerificationTokenDto(
+            token, email, LocalDateTime.now().plusHours(expirationHours)
+        );
+
+        boolean issued;
+        try {
+            issued = verificationTokenService.issue(type, email, token,
+                objectMapper.writeValueAsString(verificationToken));
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.REDIS_SAVE_ERROR);
+        }
+
+        // 메일은 outbox에 기록하고 커밋 후 MailDeliveryWorker가 발송
+        if (issued) {
+            mailOutboxService.enqueue(type, email, token);
+        }
+    }
+
+    // 비밀번호 변경, 회원 탈퇴 시 모든 기기의 세션 종료 (토큰 세대 증가 + Refresh 토큰 삭제)
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 세션 유지)
+    private void revokeAllSessions(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        revokeAllSessionsNow(email);
+                    }
+                });
+            return;
+        }
+        revokeAllSessionsNow(email);
+    }
+
+    private void revokeAllSessionsNow(String email) {
+        tokenEpochService.bumpEpoch(email);
+        refreshTokenService.deleteAllRefreshTokens(email);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.example.resumeandportfolio.service.user;
+
+import com.example.resumeandportfolio.model.enums.MailType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Verification Token Service
+ *
+ * 이메일 인증, 비밀번호 재설정 토큰을 이메일마다 하나만 유지
+ * {용도}:pending:{email}에 현재 토큰과 발송 시각을 기록하고, 발송 후 resend-window 안의 재요청은 메일을 보내지 않음
+ * 창이 지난 재요청은 이전 토큰을 삭제하고 새 토큰을 발급 (확인과 교체는 Lua 스크립트로 원자적으로 처리해 여러 노드에서도 보장)
+ * 스크립트는 대기 값에서 이전 토큰 키를 만들어 접근하므로 단일 Redis(RedisConfig의 standalone 구성)를 전제로 함
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Service
+public class VerificationTokenService {
+
+    // 대기 중인 토큰이 살아 있고 발송 후 창 안이면 0, 아니면 이전 토큰을 지우고 새 토큰 저장 후 1
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+        local pending = redis.call('GET', KEYS[1])
+        if pending then
+            local sep = string.find(pending, ':', 1, true)
+            local previous = ARGV[1] .. string.sub(pending, 1, sep - 1)
+            local sentAt = tonumber(string.sub(pending, sep + 1))
+            if redis.call('EXISTS', previous) == 1 then
+                if tonumber(ARGV[5]) - sentAt < tonumber(ARGV[4]) then
+                    return 0
+                end
+                redis.call('DEL', previous)
+            end
+        end
+        redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+        redis.call('SET', KEYS[1], ARGV[6] .. ':' .. ARGV[5], 'PX', ARGV[3])
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMs;
+    private final long resendWindowMs;
+    private final Counter issued;
+    private final Counter coalesced;
+
+    public VerificationTokenService(StringRedisTemplate redisTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${verification.token.expiration.hours}") int expirationHours,
+        @Value("${verification.token.resend-window-ms:60000}") long resendWindowMs) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMs = Duration.ofHours(expirationHours).toMillis();
+        this.resendWindowMs = resendWindowMs;
+        this.issued = meterRegistry.counter("verification.tokens", "result", "issued");
+        this.coalesced = meterRegistry.counter("verification.tokens", "result", "coalesced");
+    }
+
+    // 토큰 저장 시도 (true: 새 토큰 저장 - 메일 발송 필요, false: 최근 발송한 토큰이 있어 생략)
+    public boolean issue(MailType type, String email, String token, String tokenData) {
+        String prefix = prefix(type);
+        Long result = redisTemplate.execute(ISSUE_SCRIPT,
+            List.of(prefix + "pending:" + email, prefix + "token:" + token),
+            prefix + "token:", tokenData, String.valueOf(ttlMs), String.valueOf(resendWindowMs),
+            String.valueOf(System.currentTimeMillis()), token);
+
+        if (result != null && result == 1L) {
+            issued.increment();
+            return true;
+        }
+        coalesced.increment();
+        return false;
+    }
+
+    // 토큰 키 접두사 (verification:token:{token}, password-reset:token:{token})
+    static String prefix(MailType type) {
+        return switch (type) {
+            case VERIFICATION -> "verification:";
+            case PASSWORD_RESET -> "password-reset:";
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.resumeandportfolio.util.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Time Sorted Id
+ *
+ * INSERT 전에 애플리케이션에서 ID를 정하므로 IDENTITY와 달리 JDBC 배치 INSERT 가능
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@IdGeneratorType(TimeSortedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeSortedId {
+
+}
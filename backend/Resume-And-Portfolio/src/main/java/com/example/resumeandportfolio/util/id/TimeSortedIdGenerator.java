@@ -0,0 +1,53 @@
+package com.example.resumeandportfolio.util.id;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+/**
+ * Time Sorted Id Generator
+ *
+ * @TimeSortedId 필드의 Hibernate ID 생성기
+ * 사용할 TimeSortedIds는 Hibernate 설정(IDS_SETTING)으로 전달받고, 없으면 EntityManagerFactory 생성 실패
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public class TimeSortedIdGenerator implements BeforeExecutionGenerator,
+    AnnotationBasedGenerator<TimeSortedId> {
+
+    // TimeSortedIds 인스턴스를 담는 Hibernate 설정 키
+    public static final String IDS_SETTING = "resumeandportfolio.id.time-sorted-ids";
+
+    private TimeSortedIds ids;
+
+    @Override
+    public void initialize(TimeSortedId annotation, Member member,
+        GeneratorCreationContext context) {
+        Object configured = context.getServiceRegistry().requireService(ConfigurationService.class)
+            .getSettings().get(IDS_SETTING);
+        if (!(configured instanceof TimeSortedIds timeSortedIds)) {
+            throw new IllegalStateException(
+                IDS_SETTING + " must be set to a TimeSortedIds instance (see JpaConfig)");
+        }
+        this.ids = timeSortedIds;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner,
+        Object currentValue, EventType eventType) {
+        return ids.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
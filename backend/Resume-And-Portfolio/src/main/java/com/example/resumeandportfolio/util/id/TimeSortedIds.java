@@ -0,0 +1,55 @@
+package com.example.resumeandportfolio.util.id;
+
+import java.time.Instant;
+
+/**
+ * Time Sorted Ids
+ *
+ * 시간순으로 정렬되는 53비트 ID 생성 (JSON 숫자로 내보내도 JavaScript에서 정밀도가 유지되는 범위)
+ * [41비트: 2025-01-01부터의 ms][5비트: 노드 ID][7비트: 같은 ms 안의 순번]
+ * 같은 ms에 순번을 다 쓰거나 시계가 뒤로 가면 다음 ms를 미리 사용하므로 노드 안에서는 항상 증가
+ * 노드 ID는 노드마다 달라야 하며 id.node-id로 지정 (JpaConfig에서 생성해 Hibernate 설정으로 ID 생성기에 전달)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public final class TimeSortedIds {
+
+    static final long EPOCH_MS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public TimeSortedIds(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                "node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public long nextId() {
+        return nextId(System.currentTimeMillis());
+    }
+
+    synchronized long nextId(long nowMs) {
+        long timestamp = Math.max(nowMs - EPOCH_MS, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp++; // 순번 소진 - 다음 ms 사용
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
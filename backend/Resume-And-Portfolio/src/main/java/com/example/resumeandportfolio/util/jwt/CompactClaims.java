@@ -0,0 +1,95 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import com.example.resumeandportfolio.model.enums.Role;
+import io.jsonwebtoken.MalformedJwtException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Compact JWT Claims
+ *
+ * 매 요청 헤더로 전송되는 토큰 크기를 줄이기 위한 축약 Claim 표기
+ * category, role은 알려진 값이면 숫자 코드, 아니면 원래 문자열로 기록하고, jti는 UUID를 base64url(22자)로 표기
+ * 표준 JWT 형식은 그대로이므로 jjwt와 JWKS로 검증하는 외부 서비스도 그대로 동작
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+final class CompactClaims {
+
+    static final String CATEGORY = "c";
+    static final String USERNAME = "u";
+    static final String ROLE = "r";
+    static final String SESSION_ID = "s";
+
+    // 코드는 발급된 토큰에 남으므로 순서를 바꾸지 않고 끝에만 추가
+    private static final String[] CATEGORIES = {"access", "refresh"};
+    private static final String[] ROLES = roles(); // 2i: 이름, 2i + 1: ROLE_ 접두사 권한
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private CompactClaims() {
+    }
+
+    // 알려진 값이면 숫자 코드(Integer 캐시 범위), 아니면 원래 문자열
+    static Object encodeCategory(String category) {
+        return encode(CATEGORIES, category);
+    }
+
+    static Object encodeRole(String role) {
+        return encode(ROLES, role);
+    }
+
+    static String decodeCategory(Object value) {
+        return decode(CATEGORIES, value);
+    }
+
+    static String decodeRole(Object value) {
+        return decode(ROLES, value);
+    }
+
+    // 128비트 난수 UUID를 base64url 22자로 표기 (36자 대비 14바이트 절약)
+    static String newTokenId() {
+        UUID uuid = UUID.randomUUID();
+        byte[] bytes = ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+        return ENCODER.encodeToString(bytes);
+    }
+
+    private static Object encode(String[] table, String value) {
+        for (int i = 0; i < table.length; i++) {
+            if (table[i].equals(value)) {
+                return i;
+            }
+        }
+
+        return value;
+    }
+
+    private static String decode(String[] table, Object value) {
+        if (value instanceof Number number) {
+            int code = number.intValue();
+            if (code < 0 || code >= table.length) {
+                throw new MalformedJwtException("unknown claim code: " + code);
+            }
+            return table[code];
+        }
+
+        return (String) value;
+    }
+
+    private static String[] roles() {
+        Role[] values = Role.values();
+        String[] roles = new String[values.length * 2];
+        for (Role role : values) {
+            roles[role.ordinal() * 2] = role.name();
+            roles[role.ordinal() * 2 + 1] = "ROLE_" + role.name();
+        }
+
+        return roles;
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+/**
+ * HS256 JWT Signer
+ *
+ * 고정된 Claim 구성의 토큰을 jjwt 빌더 없이 직접 직렬화하고 서명
+ * 스레드별 Mac과 버퍼를 재사용해 토큰 문자열 외의 할당을 줄임 (결과는 jjwt로 검증 가능)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+final class HmacJwtSigner {
+
+    private static final byte[] BASE64_URL =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private final byte[] encodedHeader;
+    private final ThreadLocal<State> states;
+
+    // keyId는 키 링에서 검증된 문자([A-Za-z0-9._-])만 허용하므로 이스케이프 없이 헤더에 기록
+    HmacJwtSigner(String keyId, SecretKey secretKey) {
+        String header = keyId == null ? "{\"alg\":\"HS256\"}"
+            : "{\"kid\":\"" + keyId + "\",\"alg\":\"HS256\"}";
+        this.encodedHeader = base64Url(header.getBytes(StandardCharsets.US_ASCII));
+        this.states = ThreadLocal.withInitial(() -> new State(secretKey));
+        states.get(); // 잘못된 키는 생성 시점에 실패
+    }
+
+    // 헤더와 페이로드를 직접 작성하고 서명한 compact JWT 반환 (null 값 Claim은 생략)
+    String sign(String category, String username, String role, String sessionId, String tokenId,
+        long epoch, long issuedAt, long expiration) {
+        State state = states.get();
+
+        // 페이로드 JSON 작성
+        state.ensurePayloadCapacity(category, username, role, sessionId, tokenId);
+        byte[] json = state.payload;
+        int pos = 0;
+        json[pos++] = '{';
+        pos = writeString(json, pos, "category", category);
+        pos = writeString(json, pos, "username", username);
+        pos = writeString(json, pos, "role", role);
+        pos = writeString(json, pos, "sid", sessionId);
+        pos = writeString(json, pos, "jti", tokenId);
+        pos = writeNumber(json, pos, "ep", epoch);
+        pos = writeNumber(json, pos, "iat", issuedAt);
+        pos = writeNumber(json, pos, "exp", expiration);
+
+        return finish(state, pos);
+    }
+
+    // 축약 Claim 표기(CompactClaims)로 작성 (category, role은 숫자 코드 또는 문자열)
+    String signCompact(Object category, String username, Object role, String sessionId,
+        String tokenId, long epoch, long issuedAt, long expiration) {
+        State state = states.get();
+
+        state.ensurePayloadCapacity(category instanceof String value ? value : null, username,
+            role instanceof String value ? value : null, sessionId, tokenId);
+        byte[] json = state.payload;
+        int pos = 0;
+        json[pos++] = '{';
+        pos = writeValue(json, pos, CompactClaims.CATEGORY, category);
+        pos = writeString(json, pos, CompactClaims.USERNAME, username);
+        pos = writeValue(json, pos, CompactClaims.ROLE, role);
+        pos = writeString(json, pos, CompactClaims.SESSION_ID, sessionId);
+        pos = writeString(json, pos, "jti", tokenId);
+        pos = writeNumber(json, pos, "ep", epoch);
+        pos = writeNumber(json, pos, "iat", issuedAt);
+        pos = writeNumber(json, pos, "exp", expiration);
+
+        return finish(state, pos);
+    }
+
+    // 페이로드를 닫고 header.payload 인코딩 후 서명
+    private String finish(State state, int pos) {
+        byte[] json = state.payload;
+        json[pos - 1] = '}'; // 마지막 ',' 를 닫는 괄호로 교체
+
+        int payloadLength = (pos * 4 + 2) / 3;
+        state.ensureOutputCapacity(encodedHeader.length + payloadLength + 45);
+        byte[] out = state.output;
+        System.arraycopy(encodedHeader, 0, out, 0, encodedHeader.length);
+        int length = encodedHeader.length;
+        out[length++] = '.';
+        length = encode(json, 0, pos, out, length);
+
+        Mac mac = state.mac;
+        mac.update(out, 0, length);
+        try {
+            mac.doFinal(state.signature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("failed to sign token", e);
+        }
+        out[length++] = '.';
+        length = encode(state.signature, 0, SIGNATURE_LENGTH, out, length);
+
+        return new String(out, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    // "name":"value", 작성 (값이 null이면 생략)
+    private static int writeString(byte[] json, int pos, String name, String value) {
+        if (value == null) {
+            return pos;
+        }
+
+        pos = writeName(json, pos, name);
+        json[pos++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json[pos++] = '\\';
+                json[pos++] = (byte) c;
+            } else if (c < 0x20) {
+                pos = writeControl(json, pos, c);
+            } else if (c < 0x80) {
+                json[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                json[pos++] = (byte) (0xC0 | (c >> 6));
+                json[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                json[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                json[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                json[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                json[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                json[pos++] = '?'; // 짝이 없는 surrogate는 String.getBytes와 동일하게 치환
+            } else {
+                json[pos++] = (byte) (0xE0 | (c >> 12));
+                json[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                json[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        json[pos++] = '"';
+        json[pos++] = ',';
+
+        return pos;
+    }
+
+    // 숫자 코드면 "name":number, 아니면 "name":"value", 작성
+    private static int writeValue(byte[] json, int pos, String name, Object value) {
+        return value instanceof Integer code ? writeNumber(json, pos, name, code)
+            : writeString(json, pos, name, (String) value);
+    }
+
+    // "name":number, 작성
+    private static int writeNumber(byte[] json, int pos, String name, long value) {
+        pos = writeName(json, pos, name);
+        if (value < 0) {
+            json[pos++] = '-';
+            value = -value;
+        }
+
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            json[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        pos += digits;
+        json[pos++] = ',';
+
+        return pos;
+    }
+
+    private static int writeName(byte[] json, int pos, String name) {
+        json[pos++] = '"';
+        for (int i = 0; i < name.length(); i++) {
+            json[pos++] = (byte) name.charAt(i);
+        }
+        json[pos++] = '"';
+        json[pos++] = ':';
+
+        return pos;
+    }
+
+    private static int writeControl(byte[] json, int pos, char c) {
+        json[pos++] = '\\';
+        switch (c) {
+            case '\n' -> json[pos++] = 'n';
+            case '\r' -> json[pos++] = 'r';
+            case '\t' -> json[pos++] = 't';
+            case '\b' -> json[pos++] = 'b';
+            case '\f' -> json[pos++] = 'f';
+            default -> {
+                json[pos++] = 'u';
+                json[pos++] = '0';
+                json[pos++] = '0';
+                json[pos++] = HEX[c >> 4];
+                json[pos++] = HEX[c & 0xF];
+            }
+        }
+
+        return pos;
+    }
+
+    // 패딩 없는 base64url 인코딩 (out의 offset부터 작성, 끝 위치 반환)
+    private static int encode(byte[] src, int from, int to, byte[] out, int offset) {
+        int i = from;
+        for (; i + 2 < to; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            out[offset++] = BASE64_URL[bits >>> 18];
+            out[offset++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            out[offset++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            out[offset++] = BASE64_URL[bits & 0x3F];
+        }
+        if (i < to) {
+            int bits = (src[i] & 0xFF) << 16 | (i + 1 < to ? (src[i + 1] & 0xFF) << 8 : 0);
+            out[offset++] = BASE64_URL[bits >>> 18];
+            out[offset++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            if (i + 1 < to) {
+                out[offset++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            }
+        }
+
+        return offset;
+    }
+
+    private static byte[] base64Url(byte[] src) {
+        byte[] out = new byte[(src.length * 4 + 2) / 3];
+        int length = encode(src, 0, src.length, out, 0);
+        return Arrays.copyOf(out, length);
+    }
+
+    // 스레드별 Mac과 재사용 버퍼
+    private static final class State {
+
+        private final Mac mac;
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private byte[] payload = new byte[512];
+        private byte[] output = new byte[1024];
+
+        private State(SecretKey secretKey) {
+            try {
+                this.mac = Mac.getInstance("HmacSHA256");
+                this.mac.init(secretKey);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("failed to initialize HmacSHA256", e);
+            }
+        }
+
+        // 제어 문자 이스케이프로 문자 하나가 최대 6바이트로 늘어나는 경우까지 고려한 크기 확보
+        private void ensurePayloadCapacity(String category, String username, String role,
+            String sessionId, String tokenId) {
+            int required = 160 + 6 * (length(category) + length(username) + length(role)
+                + length(sessionId) + length(tokenId));
+            if (payload.length < required) {
+                payload = new byte[required];
+            }
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+
+        private void ensureOutputCapacity(int required) {
+            if (output.length < required) {
+                output = new byte[required];
+            }
+        }
+    }
+}
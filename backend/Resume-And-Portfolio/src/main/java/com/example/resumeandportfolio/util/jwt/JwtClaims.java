@@ -0,0 +1,25 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import java.util.Date;
+
+/**
+ * 검증이 끝난 JWT Claims
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public record JwtClaims(
+    String category,
+    String username,
+    String role,
+    String sessionId,
+    String tokenId,
+    long epoch,
+    Date expiration,
+    Date issuedAt
+) {
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
@@ -0,0 +1,355 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Pattern;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명 키 링
+ *
+ * 토큰 헤더의 kid로 검증 키를 조회하고, 키 목록을 파일 또는 Redis(jwt:keys 해시)에서 주기적으로 다시 읽어
+ * 재시작 없이 키를 추가, 교체, 폐기 (항목: active={kid}, key.{kid}={secret})
+ * 비대칭 키는 key.{kid}={ES256|EdDSA}:{PKCS#8 개인 키}:{X.509 공개 키} (base64, 개인 키가 비면 검증 전용)
+ * 형식으로 등록하고, 공개 키는 JWKS로 공개해 다른 서비스가 비밀값 없이 로컬 검증
+ * 키 폐기는 key.{kid}를 retired.{kid}={폐기 시각 epoch ms}:{키 값}으로 옮겨 기록하고, 폐기 시각부터 보존 기간
+ * (기본 Refresh Token 수명) 동안 검증에만 사용 (폐기 시각을 키 목록에 두므로 재시작한 노드도 같은 키로 검증)
+ * kid가 없는 기존 토큰은 spring.jwt.secret-key로 만든 default 키로 검증
+ * (키 목록을 쓰면 key.default 또는 retired.default={폐기 시각}로 등록, 값을 생략하면 spring.jwt.secret-key 사용)
+ * 새 키는 먼저 목록에 추가하고 모든 노드가 다시 읽은 뒤(reload 주기 이후) active로 전환
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Component
+public class JwtKeyRing {
+
+    static final String DEFAULT_KEY_ID = "default";
+    static final String REDIS_KEY = "jwt:keys";
+    static final String ACTIVE_ENTRY = "active";
+    static final String KEY_ENTRY_PREFIX = "key.";
+    static final String RETIRED_ENTRY_PREFIX = "retired.";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+    private static final int MIN_SECRET_BYTES = 32; // HS256 최소 키 길이 (256비트)
+    private static final Pattern KEY_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final StringRedisTemplate redisTemplate;
+    private final String source;
+    private final Path file;
+    private final long retentionMs;
+    private final SigningKey configuredDefault;
+
+    private final Counter reloads;
+    private final Counter reloadFailures;
+
+    private volatile Keys keys;
+
+    @Autowired
+    public JwtKeyRing(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+        @Value("${spring.jwt.secret-key}") String secret,
+        @Value("${spring.jwt.algorithm:HS256}") String algorithm,
+        @Value("${spring.jwt.keys.source:none}") String source,
+        @Value("${spring.jwt.keys.file:}") String file,
+        @Value("${spring.jwt.keys.retention-ms:86400000}") long retentionMs,
+        @Value("${spring.jwt.keys.allow-ephemeral:false}") boolean allowEphemeral) {
+        this.redisTemplate = redisTemplate;
+        this.source = source;
+        this.file = file.isEmpty() ? null : Path.of(file);
+        this.retentionMs = retentionMs;
+
+        // 비대칭 모드는 키 목록이 필요 (노드마다 다른 임시 키를 쓰면 다른 노드, 재시작 전 토큰을 모두 거부)
+        // 단일 노드 개발 환경에서만 spring.jwt.keys.allow-ephemeral=true로 임시 키 쌍 허용
+        if (!"HS256".equals(algorithm) && "none".equals(source) && !allowEphemeral) {
+            throw new IllegalStateException("spring.jwt.algorithm=" + algorithm
+                + " requires spring.jwt.keys.source (file or redis)"
+                + " or spring.jwt.keys.allow-ephemeral=true");
+        }
+        SigningKey initial = "HS256".equals(algorithm) ? newKey(DEFAULT_KEY_ID, secret)
+            : generateKey(DEFAULT_KEY_ID, algorithm);
+        this.configuredDefault = initial;
+        this.keys = Keys.of(Map.of(DEFAULT_KEY_ID, initial), initial);
+
+        this.reloads = meterRegistry.counter("jwt.keys.reloads", "result", "success");
+        this.reloadFailures = meterRegistry.counter("jwt.keys.reloads", "result", "failure");
+        Gauge.builder("jwt.keys.size", this, ring -> ring.keys.byId().size())
+            .register(meterRegistry);
+
+        // 시작 시점의 키 목록은 반드시 읽어야 하므로 실패하면 기동 중단
+        if (!"none".equals(source)) {
+            apply(load(), System.currentTimeMillis());
+        }
+    }
+
+    // 단일 키 링 (외부 키 목록 없음)
+    public JwtKeyRing(String secret) {
+        this(null, new SimpleMeterRegistry(), secret, "HS256", "none", "", 0L, false);
+    }
+
+    // 서명에 사용할 현재 키
+    SigningKey activeKey() {
+        return keys.active();
+    }
+
+    // jjwt keyLocator: kid로 검증 키 조회 (없거나 보존 기간이 지난 키는 서명 오류로 거부)
+    Key locate(Header header) {
+        String keyId = header instanceof ProtectedHeader protectedHeader
+            ? protectedHeader.getKeyId() : null;
+        SigningKey key = keys.byId().get(keyId == null ? DEFAULT_KEY_ID : keyId);
+
+        if (key == null || (key.retiredAt() > 0
+            && System.currentTimeMillis() - key.retiredAt() >= retentionMs)) {
+            throw new SignatureException("unknown signing key");
+        }
+
+        return key.verificationKey();
+    }
+
+    // 보존 기간 내 비대칭 키의 공개 JWK 목록 (HMAC 키는 제외)
+    public List<Map<String, Object>> publicJwks() {
+        return keys.publicJwks();
+    }
+
+    // 키 목록 다시 읽기 (실패 시 기존 키 링 유지)
+    @Scheduled(fixedDelayString = "${spring.jwt.keys.reload-interval-ms:30000}")
+    public void reload() {
+        if ("none".equals(source)) {
+            return;
+        }
+
+        try {
+            apply(load(), System.currentTimeMillis());
+            reloads.increment();
+        } catch (RuntimeException e) {
+            reloadFailures.increment();
+        }
+    }
+
+    // 키 목록 반영: 같은 값의 키는 서명기를 재사용, 폐기 항목은 보존 기간 안에서만 검증 전용으로 등록
+    // 폐기 여부와 시각은 키 목록에서만 읽음 (목록에서 그냥 빠진 키는 바로 제거)
+    synchronized void apply(Map<String, String> entries, long now) {
+        String activeId = entries.get(ACTIVE_ENTRY);
+        Map<String, SigningKey> current = keys.byId();
+        Map<String, SigningKey> next = new HashMap<>();
+
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            if (entry.getKey().startsWith(KEY_ENTRY_PREFIX)) {
+                String keyId = entry.getKey().substring(KEY_ENTRY_PREFIX.length());
+                next.put(keyId, reuse(current.get(keyId), keyId, entry.getValue()).live());
+            }
+        }
+
+        SigningKey active = next.get(activeId);
+        if (active == null || active.signingKey() == null) {
+            throw new IllegalArgumentException("active signing key is not usable: " + activeId);
+        }
+
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            if (!entry.getKey().startsWith(RETIRED_ENTRY_PREFIX)) {
+                continue;
+            }
+
+            String keyId = entry.getKey().substring(RETIRED_ENTRY_PREFIX.length());
+            if (next.containsKey(keyId)) {
+                continue; // 사용 중인 키가 우선
+            }
+
+            String value = entry.getValue();
+            int sep = value.indexOf(':');
+            long retiredAt = retiredAt(keyId, sep < 0 ? value : value.substring(0, sep));
+            if (now - retiredAt >= retentionMs) {
+                continue;
+            }
+
+            String material = sep < 0 ? "" : value.substring(sep + 1);
+            SigningKey key;
+            if (!material.isEmpty()) {
+                key = reuse(current.get(keyId), keyId, material);
+            } else if (DEFAULT_KEY_ID.equals(keyId)) {
+                key = configuredDefault;
+            } else {
+                throw new IllegalArgumentException("retired signing key has no value: " + keyId);
+            }
+            next.put(keyId, key.retire(retiredAt));
+        }
+
+        this.keys = Keys.of(Map.copyOf(next), active);
+    }
+
+    // 같은 값이면 기존 키(서명기 포함) 재사용
+    private static SigningKey reuse(SigningKey existing, String keyId, String value) {
+        return existing != null && MessageDigest.isEqual(existing.digest(), digest(value))
+            ? existing : newKey(keyId, value);
+    }
+
+    private static long retiredAt(String keyId, String value) {
+        try {
+            long retiredAt = Long.parseLong(value);
+            if (retiredAt > 0) {
+                return retiredAt;
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 거부
+        }
+        throw new IllegalArgumentException("invalid retirement time for signing key: " + keyId);
+    }
+
+    private Map<String, String> load() {
+        Map<String, String> entries = new HashMap<>();
+
+        switch (source) {
+            case "file" -> {
+                Properties properties = new Properties();
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                } catch (IOException e) {
+                    throw new IllegalStateException("failed to read signing keys: " + file, e);
+                }
+                properties.stringPropertyNames()
+                    .forEach(name -> entries.put(name, properties.getProperty(name)));
+            }
+            case "redis" -> redisTemplate.<String, String>opsForHash().entries(REDIS_KEY)
+                .forEach(entries::put);
+            default -> throw new IllegalStateException("unknown signing key source: " + source);
+        }
+
+        return entries;
+    }
+
+    private static SigningKey newKey(String keyId, String value) {
+        if (!KEY_ID.matcher(keyId).matches()) {
+            throw new IllegalArgumentException("invalid signing key id: " + keyId);
+        }
+
+        String[] parts = value.split(":", -1);
+        if (parts.length == 3 && ("ES256".equals(parts[0]) || "EdDSA".equals(parts[0]))) {
+            return asymmetricKey(keyId, parts[0], parts[1], parts[2], digest(value));
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("signing key is shorter than 256 bits: " + keyId);
+        }
+
+        SecretKey secretKey = new SecretKeySpec(bytes, ALGORITHM);
+        // default 키는 kid 없이 발급해 키 링 도입 이전 노드와도 호환
+        return new SigningKey(keyId, secretKey, secretKey,
+            new HmacJwtSigner(DEFAULT_KEY_ID.equals(keyId) ? null : keyId, secretKey), null,
+            digest(value), 0L);
+    }
+
+    private static SigningKey asymmetricKey(String keyId, String algorithm, String privateKey,
+        String publicKey, byte[] digest) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(
+                "ES256".equals(algorithm) ? "EC" : "EdDSA"); // Ed25519, Ed448
+            PublicKey verificationKey = keyFactory.generatePublic(
+                new X509EncodedKeySpec(DECODER.decode(publicKey)));
+            PrivateKey signingKey = privateKey.isEmpty() ? null : keyFactory.generatePrivate(
+                new PKCS8EncodedKeySpec(DECODER.decode(privateKey)));
+
+            return new SigningKey(keyId, signingKey, verificationKey, null,
+                publicJwk(keyId, algorithm, verificationKey), digest, 0L);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid " + algorithm + " signing key: " + keyId, e);
+        }
+    }
+
+    private static SigningKey generateKey(String keyId, String algorithm) {
+        KeyPair keyPair = switch (algorithm) {
+            case "ES256" -> Jwts.SIG.ES256.keyPair().build();
+            case "EdDSA" -> Jwts.SIG.EdDSA.keyPair().build();
+            default -> throw new IllegalArgumentException("unsupported algorithm: " + algorithm);
+        };
+
+        return new SigningKey(keyId, keyPair.getPrivate(), keyPair.getPublic(), null,
+            publicJwk(keyId, algorithm, keyPair.getPublic()), new byte[0], 0L);
+    }
+
+    // 공개 키의 JWK 표현 (kid, use, alg 포함)
+    private static Map<String, Object> publicJwk(String keyId, String algorithm, PublicKey key) {
+        return Map.copyOf(Jwks.builder().key(key)
+            .id(keyId)
+            .publicKeyUse("sig")
+            .algorithm(algorithm)
+            .build());
+    }
+
+    private static byte[] digest(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                .digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 서명 키 (HMAC 키는 signer로 전용 경로 서명, 비대칭 키는 jjwt로 서명하고 JWK 공개)
+    // 검증 전용 키는 signingKey가 null, retiredAt이 0이면 사용 중
+    record SigningKey(String id, Key signingKey, Key verificationKey, HmacJwtSigner signer,
+                      Map<String, Object> publicJwk, byte[] digest, long retiredAt) {
+
+        // 토큰 헤더에 기록할 kid (HMAC default 키는 생략)
+        String headerKeyId() {
+            return signer != null && DEFAULT_KEY_ID.equals(id) ? null : id;
+        }
+
+        SigningKey live() {
+            return retire(0L);
+        }
+
+        SigningKey retire(long at) {
+            return retiredAt == at ? this
+                : new SigningKey(id, signingKey, verificationKey, signer, publicJwk, digest, at);
+        }
+    }
+
+    // 키 링 스냅샷 (JWKS 응답은 키 목록이 바뀔 때만 계산)
+    private record Keys(Map<String, SigningKey> byId, SigningKey active,
+                        List<Map<String, Object>> publicJwks) {
+
+        static Keys of(Map<String, SigningKey> byId, SigningKey active) {
+            return new Keys(byId, active, byId.values().stream()
+                .filter(key -> key.publicJwk() != null)
+                .sorted(Comparator.comparing(SigningKey::id))
+                .map(SigningKey::publicJwk)
+                .toList());
+        }
+    }
+}
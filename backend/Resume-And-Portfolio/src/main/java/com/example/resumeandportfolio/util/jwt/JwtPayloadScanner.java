@@ -0,0 +1,152 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import java.util.Arrays;
+
+/**
+ * JWT Payload Scanner
+ *
+ * 서명 검증 전에 base64url 페이로드를 한 바이트씩 디코딩하며 최상위 "exp" 값만 읽음
+ * Claims Map이나 디코딩 버퍼를 만들지 않고, 문자열 안의 "exp"와 중첩 객체는 무시
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+final class JwtPayloadScanner {
+
+    static final long NOT_FOUND = -1L;
+    static final long MALFORMED = -2L;
+
+    private static final byte[] EXP = {'e', 'x', 'p'};
+    private static final int[] DECODE = new int[128];
+
+    // 파싱 단계
+    private static final int SCAN = 0;
+    private static final int COLON = 1;
+    private static final int VALUE = 2;
+    private static final int NUMBER = 3;
+
+    static {
+        Arrays.fill(DECODE, -1);
+        for (int i = 0; i < 26; i++) {
+            DECODE['A' + i] = i;
+            DECODE['a' + i] = 26 + i;
+        }
+        for (int i = 0; i < 10; i++) {
+            DECODE['0' + i] = 52 + i;
+        }
+        DECODE['-'] = 62;
+        DECODE['_'] = 63;
+    }
+
+    private JwtPayloadScanner() {
+    }
+
+    // 구간의 모든 문자가 base64url 문자인지 확인
+    static boolean isBase64Url(String token, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = token.charAt(i);
+            if (c >= 128 || DECODE[c] < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // 페이로드 구간에서 exp(epoch초)를 읽음 (없으면 NOT_FOUND, 잘못된 문자가 있으면 MALFORMED)
+    static long readExpiration(String token, int start, int end) {
+        int buffer = 0;
+        int bits = 0;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        int keyPos = -1;
+        int phase = SCAN;
+        long exp = 0L;
+
+        for (int i = start; i < end; i++) {
+            char c = token.charAt(i);
+            int value = c < 128 ? DECODE[c] : -1;
+            if (value < 0) {
+                return MALFORMED;
+            }
+
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits < 8) {
+                continue;
+            }
+            bits -= 8;
+            int b = (buffer >> bits) & 0xFF;
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                    keyPos = -1;
+                } else if (b == '\\') {
+                    escaped = true;
+                    keyPos = -1;
+                } else if (b == '"') {
+                    inString = false;
+                    if (keyPos == EXP.length) {
+                        phase = COLON;
+                    }
+                    keyPos = -1;
+                } else if (keyPos >= 0 && keyPos < EXP.length && b == EXP[keyPos]) {
+                    keyPos++;
+                } else {
+                    keyPos = -1;
+                }
+                continue;
+            }
+
+            if (phase == NUMBER) {
+                if (b >= '0' && b <= '9') {
+                    exp = exp * 10 + (b - '0');
+                    if (exp > 99_999_999_999L) {
+                        return NOT_FOUND;
+                    }
+                    continue;
+                }
+                return exp;
+            }
+            if (isWhitespace(b) && phase != SCAN) {
+                continue;
+            }
+            if (phase == VALUE) {
+                if (b < '0' || b > '9') {
+                    return NOT_FOUND;
+                }
+                exp = b - '0';
+                phase = NUMBER;
+                continue;
+            }
+            if (phase == COLON) {
+                phase = SCAN;
+                if (b == ':') {
+                    phase = VALUE;
+                    continue;
+                }
+            }
+
+            // "exp" 문자열 뒤에 ':'가 오지 않으면 값이므로 일반 문자로 처리
+            switch (b) {
+                case '"' -> {
+                    inString = true;
+                    keyPos = depth == 1 ? 0 : -1;
+                }
+                case '{', '[' -> depth++;
+                case '}', ']' -> depth--;
+                default -> {
+                }
+            }
+        }
+
+        return phase == NUMBER ? exp : NOT_FOUND;
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+}
@@ -1,13 +1,13 @@
 package com.example.resumeandportfolio.util.jwt;
 
+import com.example.resumeandportfolio.util.jwt.JwtKeyRing.SigningKey;
 import io.jsonwebtoken.*;
-import java.nio.charset.StandardCharsets;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * JWT Utility
@@ -19,36 +19,163 @@ import java.util.Date;
 @Component
 public class JwtUtil {
 
-    private final SecretKey secretKey;
+    // 정상 토큰은 수백 바이트이므로 이보다 길면 파싱 없이 거부
+    static final int MAX_TOKEN_LENGTH = 4096;
 
-    public JwtUtil(@Value("${spring.jwt.secret-key}") String secret) {
-        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+    private final JwtKeyRing keyRing;
+    private final JwtParser jwtParser;
+    private final boolean compactClaims;
+
+    public JwtUtil(String secret) {
+        this(new JwtKeyRing(secret));
+    }
+
+    public JwtUtil(JwtKeyRing keyRing) {
+        this(keyRing, false);
+    }
+
+    // 검증 키는 헤더의 kid로 키 링에서 조회
+    // 축약 Claim 발급은 선택 사항이고, 검증은 설정과 관계없이 두 표기를 모두 허용 (전환 기간 대비)
+    @Autowired
+    public JwtUtil(JwtKeyRing keyRing,
+        @Value("${spring.jwt.compact-claims:false}") boolean compactClaims) {
+        this.keyRing = keyRing;
+        this.jwtParser = Jwts.parser().keyLocator(keyRing::locate).build();
+        this.compactClaims = compactClaims;
+    }
+
+    // 서명 검증 전 구조 검사 (길이, 세그먼트 수, 문자 집합, exp)
+    // 명백히 잘못되었거나 만료된 토큰만 암호 연산 전에 거부하고, 통과한 토큰은 반드시 전체 검증
+    public void precheck(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            throw new MalformedJwtException("invalid token length");
+        }
+
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        if (first <= 0 || second <= first + 1 || second == token.length() - 1
+            || token.indexOf('.', second + 1) >= 0) {
+            throw new MalformedJwtException("invalid token structure");
+        }
+
+        if (!JwtPayloadScanner.isBase64Url(token, 0, first)
+            || !JwtPayloadScanner.isBase64Url(token, second + 1, token.length())) {
+            throw new MalformedJwtException("invalid token encoding");
+        }
+
+        long exp = JwtPayloadScanner.readExpiration(token, first + 1, second);
+        if (exp == JwtPayloadScanner.MALFORMED) {
+            throw new MalformedJwtException("invalid token encoding");
+        }
+        // 경계 시각은 전체 검증에 맡기고 1초 이상 지난 토큰만 거부
+        if (exp >= 0 && exp * 1000 < System.currentTimeMillis() - 1000) {
+            throw new ExpiredJwtException(null, null, "token expired");
+        }
+    }
+
+    // 서명 검증과 파싱을 한 번만 수행하고 Claims 반환 (만료 시 ExpiredJwtException)
+    public JwtClaims parseToken(String token) {
+        precheck(token);
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        Long epoch = claims.get("ep", Long.class); // 세대 도입 이전 토큰은 0
+
+        // 축약 표기 토큰은 짧은 키와 숫자 코드 사용
+        if (claims.containsKey(CompactClaims.USERNAME)) {
+            return new JwtClaims(
+                CompactClaims.decodeCategory(claims.get(CompactClaims.CATEGORY)),
+                claims.get(CompactClaims.USERNAME, String.class),
+                CompactClaims.decodeRole(claims.get(CompactClaims.ROLE)),
+                claims.get(CompactClaims.SESSION_ID, String.class),
+                claims.getId(),
+                epoch == null ? 0L : epoch,
+                claims.getExpiration(),
+                claims.getIssuedAt()
+            );
+        }
+
+        return new JwtClaims(
+            claims.get("category", String.class),
+            claims.get("username", String.class),
+            claims.get("role", String.class),
+            claims.get("sid", String.class),
+            claims.getId(),
+            epoch == null ? 0L : epoch,
+            claims.getExpiration(),
+            claims.getIssuedAt()
+        );
     }
 
     public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
+        return parseToken(token).category();
     }
 
     public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return parseToken(token).username();
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return parseToken(token).role();
     }
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return parseToken(token).isExpired();
     }
 
     public String createJwt(String category, String username, String role, Long expiredMs) {
-        return Jwts.builder()
-            .claim("category", category)
-            .claim("username", username)
-            .claim("role", role)
+        return createJwt(category, username, role, null, expiredMs);
+    }
+
+    public String createJwt(String category, String username, String role, String sessionId,
+        Long expiredMs) {
+        return createJwt(category, username, role, sessionId, 0L, expiredMs);
+    }
+
+    // 세션(기기) ID, 폐기용 토큰 ID(jti), 사용자 토큰 세대(ep)를 포함한 JWT 생성
+    // HMAC 키는 jjwt 빌더 대신 스레드별 Mac과 버퍼를 재사용하는 전용 서명 경로 사용
+    // 비대칭 키(ES256, EdDSA)는 서명 연산이 비용의 대부분이므로 jjwt 빌더로 서명
+    public String createJwt(String category, String username, String role, String sessionId,
+        long epoch, Long expiredMs) {
+        HmacJwtSigner signer = keyRing.activeKey().signer();
+        if (signer == null) {
+            return buildJwt(category, username, role, sessionId, epoch, expiredMs);
+        }
+
+        long now = System.currentTimeMillis();
+        if (compactClaims) {
+            return signer.signCompact(CompactClaims.encodeCategory(category), username,
+                CompactClaims.encodeRole(role), sessionId, CompactClaims.newTokenId(), epoch,
+                now / 1000, (now + expiredMs) / 1000);
+        }
+
+        return signer.sign(category, username, role, sessionId, UUID.randomUUID().toString(),
+            epoch, now / 1000, (now + expiredMs) / 1000);
+    }
+
+    // jjwt 빌더로 같은 Claim 구성의 JWT 생성 (비대칭 키 서명, 전용 서명 경로와의 비교용)
+    String buildJwt(String category, String username, String role, String sessionId,
+        long epoch, Long expiredMs) {
+        SigningKey key = keyRing.activeKey();
+        JwtBuilder builder = Jwts.builder().header().keyId(key.headerKeyId()).and();
+
+        if (compactClaims) {
+            builder.claim(CompactClaims.CATEGORY, CompactClaims.encodeCategory(category))
+                .claim(CompactClaims.USERNAME, username)
+                .claim(CompactClaims.ROLE, CompactClaims.encodeRole(role))
+                .claim(CompactClaims.SESSION_ID, sessionId)
+                .id(CompactClaims.newTokenId());
+        } else {
+            builder.claim("category", category)
+                .claim("username", username)
+                .claim("role", role)
+                .claim("sid", sessionId)
+                .id(UUID.randomUUID().toString());
+        }
+
+        return builder
+            .claim("ep", epoch)
             .issuedAt(new Date(System.currentTimeMillis()))
             .expiration(new Date(System.currentTimeMillis() + expiredMs))
-            .signWith(secretKey)
+            .signWith(key.signingKey())
             .compact();
     }
-}
\ No newline at end of file
+}
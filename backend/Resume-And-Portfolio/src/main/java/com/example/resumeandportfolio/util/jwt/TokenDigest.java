@@ -0,0 +1,39 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Token Digest Utility
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public class TokenDigest {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    // 토큰의 SHA-256 다이제스트 (base64url, 43자)
+    public static String sha256(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return ENCODER.encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 상수 시간 비교
+    public static boolean matches(String expectedDigest, String actualDigest) {
+        if (expectedDigest == null || actualDigest == null) {
+            return false;
+        }
+
+        return MessageDigest.isEqual(expectedDigest.getBytes(StandardCharsets.US_ASCII),
+            actualDigest.getBytes(StandardCharsets.US_ASCII));
+    }
+}
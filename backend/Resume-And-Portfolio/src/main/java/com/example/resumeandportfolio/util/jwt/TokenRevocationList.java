@@ -0,0 +1,177 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access Token 폐기 목록
+ *
+ * 폐기된 토큰 ID(jti)는 Redis(revoked:jti:{jti})에 토큰 만료 시각까지 보관하고,
+ * 각 노드는 pub/sub로 동기화되는 로컬 Bloom 필터로 먼저 걸러 적중한 경우에만 Redis 조회
+ * 유실된 메시지와 만료된 항목은 주기적인 SCAN 재동기화로 정리
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Component
+public class TokenRevocationList implements MessageListener {
+
+    static final String KEY_PREFIX = "revoked:jti:";
+    static final String CHANNEL = "token-revocations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding; // 재동기화 중 수신한 항목도 새 필터에 반영
+    private volatile boolean synced;
+    private volatile long lastSyncMillis;
+
+    private final Counter lookups;
+    private final Counter bloomHits;
+    private final Counter falsePositives;
+    private final Timer syncLag;
+
+    public TokenRevocationList(StringRedisTemplate redisTemplate,
+        RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+        @Value("${spring.jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+        @Value("${spring.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        this.lookups = meterRegistry.counter("jwt.revocation.lookups");
+        this.bloomHits = meterRegistry.counter("jwt.revocation.bloom.hits");
+        this.falsePositives = meterRegistry.counter("jwt.revocation.bloom.false-positives");
+        this.syncLag = Timer.builder("jwt.revocation.sync.lag")
+            .description("폐기 발행부터 로컬 필터 반영까지 걸린 시간")
+            .register(meterRegistry);
+        Gauge.builder("jwt.revocation.bloom.false-positive-rate", this, list ->
+                list.falsePositiveRatio())
+            .register(meterRegistry);
+        Gauge.builder("jwt.revocation.resync.age", this, list ->
+                list.lastSyncMillis == 0 ? Double.NaN
+                    : (System.currentTimeMillis() - list.lastSyncMillis) / 1000.0)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 첫 동기화는 기동 완료 후 (Redis가 느리거나 연결할 수 없어도 기동은 막지 않고, 동기화 전에는 모든 조회를 Redis로 확인)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialSync() {
+        resync();
+    }
+
+    // 토큰 폐기 (Redis에 만료 시각까지 저장 후 다른 노드에 전파)
+    public void revoke(String tokenId, Date expiration) {
+        long remainingMs = expiration.getTime() - System.currentTimeMillis();
+        if (tokenId == null || remainingMs <= 0) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", Duration.ofMillis(remainingMs));
+        add(tokenId);
+        redisTemplate.convertAndSend(CHANNEL, tokenId + ":" + System.currentTimeMillis());
+    }
+
+    // 폐기 여부 확인 (Bloom 필터에 없으면 Redis 조회 없이 통과)
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+
+        lookups.increment();
+        if (synced && !filter.mightContain(tokenId)) {
+            return false;
+        }
+
+        bloomHits.increment();
+        try {
+            boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+            if (!revoked) {
+                falsePositives.increment();
+            }
+            return revoked;
+        } catch (RuntimeException e) {
+            // 동기화된 필터에 적중했다면 폐기된 것으로 간주, 동기화 전이면 가용성을 위해 통과
+            return synced;
+        }
+    }
+
+    // 다른 노드에서 발행한 폐기 메시지 반영 ("{jti}:{발행 시각 ms}")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.lastIndexOf(':');
+        if (sep <= 0) {
+            return;
+        }
+
+        add(body.substring(0, sep));
+        try {
+            long publishedAt = Long.parseLong(body.substring(sep + 1));
+            syncLag.record(Math.max(0, System.currentTimeMillis() - publishedAt),
+                TimeUnit.MILLISECONDS);
+        } catch (NumberFormatException ignored) {
+            // 발행 시각이 없으면 지연만 기록하지 않음
+        }
+    }
+
+    // Redis의 폐기 목록으로 필터 재구성 (만료된 항목 제거, 유실된 메시지 보정)
+    @Scheduled(fixedDelayString = "${spring.jwt.revocation.resync-interval-ms:300000}",
+        initialDelayString = "${spring.jwt.revocation.resync-interval-ms:300000}")
+    public void resync() {
+        BloomFilter fresh = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = fresh;
+        try (Cursor<String> keys = redisTemplate.scan(
+            ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (keys.hasNext()) {
+                fresh.put(keys.next().substring(KEY_PREFIX.length()));
+            }
+            filter = fresh;
+            synced = true;
+            lastSyncMillis = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            // Redis에 연결할 수 없으면 기존 필터 유지 (resync.age 지표로 확인)
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    // 실제로는 폐기되지 않은 조회 중 필터에 적중한 비율
+    double falsePositiveRatio() {
+        double negatives = lookups.count() - bloomHits.count() + falsePositives.count();
+        return negatives == 0 ? 0.0 : falsePositives.count() / negatives;
+    }
+
+    private void add(String tokenId) {
+        filter.put(tokenId);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 Access Token 캐시
+ *
+ * 사용자별 캐시 키 색인으로 사용자, 세션 단위 무효화를 전체 순회 없이 처리
+ * 무효화는 pub/sub로 다른 노드의 캐시에도 전파 (user:{username}, session:{sessionId}:{username})
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Component
+public class VerifiedTokenCache implements MessageListener {
+
+    static final String CHANNEL = "verified-token-invalidations";
+    static final String USER_PREFIX = "user:";
+    static final String SESSION_PREFIX = "session:";
+
+    private final JwtUtil jwtUtil;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Cache<String, JwtClaims> cache;
+    private final Map<String, Set<String>> keysByUser = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(JwtUtil jwtUtil, StringRedisTemplate redisTemplate,
+        RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+        @Value("${spring.jwt.cache.enabled:true}") boolean enabled,
+        @Value("${spring.jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        // 만료, 축출된 항목은 같은 스레드에서 바로 색인에서도 제거
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry())
+            .executor(Runnable::run)
+            .<String, JwtClaims>removalListener((key, claims, cause) -> unindex(key, claims))
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 캐시에 있으면 그대로 반환, 없으면 서명 검증 후 Access 토큰만 캐시에 저장
+    public JwtClaims verify(String token) {
+        if (!enabled) {
+            return jwtUtil.parseToken(token);
+        }
+
+        jwtUtil.precheck(token); // 잘못된 토큰은 다이제스트 계산 전에 거부
+        String key = TokenDigest.sha256(token); // 토큰 원문 대신 다이제스트를 키로 사용
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        JwtClaims claims = jwtUtil.parseToken(token);
+        if ("access".equals(claims.category())) {
+            index(key, claims);
+            cache.put(key, claims);
+        }
+
+        return claims;
+    }
+
+    // 회원 탈퇴 시 해당 사용자의 캐시 항목 제거 (다른 노드에는 메시지 하나로 전파)
+    public void invalidateUser(String username) {
+        evictUser(username);
+        publish(USER_PREFIX + username);
+    }
+
+    // 로그아웃 시 해당 세션의 캐시 항목만 제거 (같은 사용자의 다른 기기 세션은 유지)
+    public void invalidateSession(String username, String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        evictSession(username, sessionId);
+        publish(SESSION_PREFIX + sessionId + ":" + username);
+    }
+
+    // 다른 노드에서 무효화한 사용자, 세션의 캐시 항목 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(USER_PREFIX)) {
+            evictUser(body.substring(USER_PREFIX.length()));
+        } else if (body.startsWith(SESSION_PREFIX)) {
+            String value = body.substring(SESSION_PREFIX.length());
+            int separator = value.indexOf(':');
+            if (separator > 0) {
+                evictSession(value.substring(separator + 1), value.substring(0, separator));
+            }
+        }
+    }
+
+    // 적중, 미스, 축출 카운터
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private void evictUser(String username) {
+        Set<String> keys = keysByUser.remove(username);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    // 사용자 색인 안에서 세션 ID가 같은 항목만 제거 (제거 리스너가 색인도 정리)
+    private void evictSession(String username, String sessionId) {
+        Set<String> keys = keysByUser.get(username);
+        if (keys == null) {
+            return;
+        }
+        for (String key : Set.copyOf(keys)) {
+            cache.asMap().computeIfPresent(key,
+                (k, claims) -> sessionId.equals(claims.sessionId()) ? null : claims);
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 전파하지 못해도 다른 노드는 토큰 세대, 폐기 목록 확인으로 거부
+        }
+    }
+
+    private void index(String key, JwtClaims claims) {
+        keysByUser.compute(claims.username(), (username, keys) -> {
+            Set<String> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            indexed.add(key);
+            return indexed;
+        });
+    }
+
+    // 같은 키가 다시 저장된 경우는 색인 유지
+    private void unindex(String key, JwtClaims claims) {
+        if (key == null || claims == null) {
+            return;
+        }
+        keysByUser.computeIfPresent(claims.username(), (username, keys) -> {
+            if (!cache.asMap().containsKey(key)) {
+                keys.remove(key);
+            }
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    // 사용자별로 색인된 키 수 (대기 중인 만료 처리를 먼저 반영)
+    int indexedKeys(String username) {
+        cache.cleanUp();
+        Set<String> keys = keysByUser.get(username);
+        return keys == null ? 0 : keys.size();
+    }
+
+    // 항목은 토큰의 exp 시각에 만료
+    private static class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long remainingMs = claims.expiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.resumeandportfolio.util.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mail Template
+ *
+ * {{name}} 자리표시자를 포함한 템플릿을 고정 문자열 조각과 변수 이름으로 미리 분해해 둔 형태
+ * 렌더링은 조각과 변수 값을 버퍼에 이어 붙이기만 하며, HTML 템플릿은 변수 값을 이스케이프
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals; // 변수 앞뒤의 고정 문자열 (변수 개수 + 1)
+    private final String[] variables;
+    private final boolean html;
+    private final int literalLength;
+
+    private MailTemplate(String[] literals, String[] variables, boolean html) {
+        this.literals = literals;
+        this.variables = variables;
+        this.html = html;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    // 템플릿 원문을 조각으로 분해 (닫히지 않거나 이름이 빈 자리표시자는 거부)
+    static MailTemplate compile(String source, boolean html) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int pos = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, pos)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at " + open);
+            }
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder at " + open);
+            }
+            literals.add(source.substring(pos, open));
+            variables.add(name);
+            pos = close + CLOSE.length();
+        }
+        literals.add(source.substring(pos));
+
+        return new MailTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new),
+            html);
+    }
+
+    // 렌더링 결과 길이 추정 (버퍼 확보용)
+    int estimateLength(Map<String, String> values) {
+        int length = literalLength;
+        for (String variable : variables) {
+            String value = values.get(variable);
+            length += value != null ? value.length() : 0;
+        }
+        return length;
+    }
+
+    // 버퍼에 렌더링 (값이 없는 변수는 거부)
+    void renderTo(StringBuilder out, Map<String, String> values) {
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            String value = values.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing template variable: " + variables[i]);
+            }
+            if (html) {
+                escapeHtml(out, value);
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[variables.length]);
+    }
+
+    private static void escapeHtml(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.resumeandportfolio.util.mail;
+
+import com.example.resumeandportfolio.model.enums.MailType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mail Template Registry
+ *
+ * 메일 종류별, 언어별 템플릿(제목, 텍스트 본문, HTML 본문)을 시작 시 한 번 컴파일해 캐시
+ * 템플릿 위치: templates/mail/{종류}/{언어}/subject.txt, body.txt, body.html (종류는 password-reset 형식)
+ * mail.templates.path를 지정하면 클래스패스 대신 해당 디렉터리에서 읽고, 파일이 바뀌면 재시작 없이 다시 컴파일 (개발용)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Component
+public class MailTemplateRegistry {
+
+    private static final String CLASSPATH_ROOT = "templates/mail/";
+    private static final String SUBJECT = "subject.txt";
+    private static final String TEXT = "body.txt";
+    private static final String HTML = "body.html";
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+
+    // 렌더링용 버퍼를 스레드별로 재사용 (지나치게 커진 버퍼는 보관하지 않음)
+    private static final ThreadLocal<StringBuilder> BUFFER =
+        ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final Path directory;
+    private final String[] locales;
+    private final String defaultLocale;
+    private final Map<MailType, Map<String, Templates>> templates = new EnumMap<>(MailType.class);
+
+    public MailTemplateRegistry(
+        @Value("${mail.templates.path:}") String path,
+        @Value("${mail.templates.locales:ko,en}") String[] locales,
+        @Value("${mail.templates.default-locale:ko}") String defaultLocale) {
+        this.directory = path.isBlank() ? null : Path.of(path);
+        this.locales = locales;
+        this.defaultLocale = defaultLocale;
+
+        for (MailType type : MailType.values()) {
+            Map<String, Templates> byLocale = new ConcurrentHashMap<>();
+            for (String locale : locales) {
+                Templates loaded = load(type, locale);
+                if (loaded != null) {
+                    byLocale.put(locale, loaded);
+                }
+            }
+            if (!byLocale.containsKey(defaultLocale)) {
+                throw new IllegalStateException(
+                    "Missing default mail template: " + type + "/" + defaultLocale);
+            }
+            templates.put(type, byLocale);
+        }
+    }
+
+    // 요청 언어의 템플릿으로 렌더링 (없으면 기본 언어)
+    public RenderedMail render(MailType type, String locale, Map<String, String> values) {
+        Map<String, Templates> byLocale = templates.get(type);
+        Templates selected = locale != null ? byLocale.get(normalize(locale)) : null;
+        if (selected == null) {
+            selected = byLocale.get(defaultLocale);
+        }
+
+        StringBuilder buffer = BUFFER.get();
+        try {
+            return new RenderedMail(
+                render(buffer, selected.subject, values),
+                render(buffer, selected.text, values),
+                render(buffer, selected.html, values));
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    // 디렉터리에서 읽는 경우 수정된 템플릿만 다시 컴파일 (컴파일 실패 시 기존 템플릿 유지)
+    @Scheduled(fixedDelayString = "${mail.templates.reload-interval-ms:2000}")
+    public void reload() {
+        if (directory == null) {
+            return;
+        }
+
+        for (MailType type : MailType.values()) {
+            Map<String, Templates> byLocale = templates.get(type);
+            for (String locale : locales) {
+                Templates current = byLocale.get(locale);
+                long modified = lastModified(type, locale);
+                if (modified == 0L || (current != null && current.lastModified == modified)) {
+                    continue;
+                }
+                try {
+                    Templates loaded = load(type, locale);
+                    if (loaded != null) {
+                        byLocale.put(locale, loaded);
+                    }
+                } catch (RuntimeException ignored) {
+                    // 편집 중인 파일은 다음 주기에 다시 시도
+                }
+            }
+        }
+    }
+
+    private static String render(StringBuilder buffer, MailTemplate template,
+        Map<String, String> values) {
+        buffer.setLength(0);
+        buffer.ensureCapacity(template.estimateLength(values));
+        template.renderTo(buffer, values);
+        return buffer.toString();
+    }
+
+    private Templates load(MailType type, String locale) {
+        String subject = read(type, locale, SUBJECT);
+        String text = read(type, locale, TEXT);
+        String html = read(type, locale, HTML);
+        if (subject == null || text == null || html == null) {
+            return null;
+        }
+
+        return new Templates(
+            MailTemplate.compile(subject.strip(), false),
+            MailTemplate.compile(text, false),
+            MailTemplate.compile(html, true),
+            lastModified(type, locale));
+    }
+
+    private String read(MailType type, String locale, String file) {
+        String relative = folder(type) + "/" + locale + "/" + file;
+        try {
+            if (directory != null) {
+                Path path = directory.resolve(relative);
+                return Files.isRegularFile(path) ? Files.readString(path) : null;
+            }
+
+            ClassPathResource resource = new ClassPathResource(CLASSPATH_ROOT + relative);
+            if (!resource.exists()) {
+                return null;
+            }
+            try (InputStream in = resource.getInputStream()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 템플릿 파일 세 개 중 가장 최근 수정 시각 (디렉터리 모드가 아니거나 파일이 없으면 0)
+    private long lastModified(MailType type, String locale) {
+        if (directory == null) {
+            return 0L;
+        }
+
+        Path folder = directory.resolve(folder(type)).resolve(locale);
+        long latest = 0L;
+        for (String file : new String[]{SUBJECT, TEXT, HTML}) {
+            try {
+                latest = Math.max(latest, Files.getLastModifiedTime(folder.resolve(file))
+                    .toMillis());
+            } catch (IOException e) {
+                return 0L;
+            }
+        }
+        return latest;
+    }
+
+    private static String folder(MailType type) {
+        return type.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    // ko-KR, ko_KR 같은 태그는 언어 코드만 사용
+    private static String normalize(String locale) {
+        int separator = 0;
+        while (separator < locale.length() && locale.charAt(separator) != '-'
+            && locale.charAt(separator) != '_') {
+            separator++;
+        }
+        return locale.substring(0, separator).toLowerCase(Locale.ROOT);
+    }
+
+    private record Templates(MailTemplate subject, MailTemplate text, MailTemplate html,
+                             long lastModified) {
+
+    }
+
+    // 렌더링된 메일 제목과 본문
+    public record RenderedMail(String subject, String text, String html) {
+
+    }
+}
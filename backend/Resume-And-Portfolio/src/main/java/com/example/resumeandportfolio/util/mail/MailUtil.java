@@ -1,13 +1,21 @@
 package com.example.resumeandportfolio.util.mail;
 
+import com.example.resumeandportfolio.model.enums.MailType;
+import com.example.resumeandportfolio.util.mail.MailTemplateRegistry.RenderedMail;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
 /**
  * Mail Utility
  *
+ * 메일 제목과 본문은 MailTemplateRegistry의 언어별 템플릿으로 렌더링
+ *
  * @author Ji-Seungwoo
  * @version 1.0
  */
@@ -16,6 +24,7 @@ import org.springframework.stereotype.Component;
 public class MailUtil {
 
     private final JavaMailSender mailSender;
+    private final MailTemplateRegistry templateRegistry;
 
     @Value("${spring.mail.username}")
     private String fromAddress;
@@ -23,39 +32,45 @@ public class MailUtil {
     @Value("${application.server.url}")
     private String serverUrl;
 
-    public MailUtil(JavaMailSender mailSender) {
+    public MailUtil(JavaMailSender mailSender, MailTemplateRegistry templateRegistry) {
         this.mailSender = mailSender;
+        this.templateRegistry = templateRegistry;
     }
 
-    // 회원 가입 시 인증 메일 보내는 메서드
-    public void sendVerificationMail(String toEmail, String token) {
-        String subject = "[ResumeAndPortfolio] 이메일 인증";
-        String verificationLink = serverUrl + "/api/users/verify?token=" + token;
-        String text =
-            "저희 서비스에 회원가입 해주셔서 감사합니다! 다음 이메일 인증 링크를 눌러주세요!:\n"
-                + verificationLink;
+    // 여러 메일을 한 번에 발송 (PooledJavaMailSender 사용 시 연결 하나로 이어서 발송)
+    public void send(MimeMessage... messages) {
+        mailSender.send(messages);
+    }
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromAddress);
-        message.setTo(toEmail);
-        message.setSubject(subject);
-        message.setText(text);
+    // 회원 가입 인증 메일 작성 (locale이 없으면 기본 언어)
+    public MimeMessage verificationMail(String toEmail, String token, String locale) {
+        String verificationLink = serverUrl + "/api/users/verify?token=" + token;
 
-        mailSender.send(message);
+        return createMessage(toEmail, templateRegistry.render(MailType.VERIFICATION, locale,
+            Map.of("link", verificationLink)));
     }
 
-    // 비밀번호 재설정 시 인증 메일 보내는 메서드
-    public void sendPasswordResetMail(String toEmail, String token) {
-        String subject = "[ResumeAndPortfolio] 비밀번호 재설정";
+    // 비밀번호 재설정 메일 작성 (locale이 없으면 기본 언어)
+    public MimeMessage passwordResetMail(String toEmail, String token, String locale) {
         String resetLink = serverUrl + "/api/users/reset-password?token=" + token;
-        String text = "비밀번호 재설정을 요청하셨습니다. 아래 링크를 클릭하여 새로운 비밀번호를 설정하세요:\n" + resetLink;
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromAddress);
-        message.setTo(toEmail);
-        message.setSubject(subject);
-        message.setText(text);
+        return createMessage(toEmail, templateRegistry.render(MailType.PASSWORD_RESET, locale,
+            Map.of("link", resetLink)));
+    }
+
+    // 텍스트와 HTML 본문을 함께 담은 multipart 메일 작성 (HTML을 표시하지 못하는 클라이언트는 텍스트 본문 사용)
+    private MimeMessage createMessage(String toEmail, RenderedMail mail) {
+        MimeMessage message = mailSender.createMimeMessage();
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom(fromAddress);
+            helper.setTo(toEmail);
+            helper.setSubject(mail.subject());
+            helper.setText(mail.text(), mail.html());
+        } catch (MessagingException e) {
+            throw new MailPreparationException(e);
+        }
 
-        mailSender.send(message);
+        return message;
     }
-}
\ No newline at end of file
+}
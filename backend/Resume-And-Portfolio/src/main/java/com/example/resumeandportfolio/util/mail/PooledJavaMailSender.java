@@ -0,0 +1,167 @@
+package com.example.resumeandportfolio.util.mail;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * Pooled Java Mail Sender
+ *
+ * 인증된 SMTP 연결(Transport)을 작은 풀로 유지해 메일마다 반복되는 연결, TLS 핸드셰이크, 인증을 생략
+ * 연결은 일정 개수의 메일을 보내거나(배치 도중 포함) 일정 시간 유휴 상태이면 닫고 새로 연결 (서버 측 제한, 유휴 종료 대비)
+ * send(MimeMessage...)로 전달된 메일은 연결 하나로 이어서 발송
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private final int maxMessagesPerConnection;
+    private final long idleTimeoutMs;
+    private final Semaphore permits;
+    private final BlockingQueue<Connection> idle;
+
+    public PooledJavaMailSender(int poolSize, int maxMessagesPerConnection, long idleTimeoutMs) {
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.permits = new Semaphore(poolSize);
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    // JavaMailSenderImpl.doSend와 같은 규칙으로 발송하되, 연결은 풀에서 빌려 재사용
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages)
+        throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        Connection connection = null;
+
+        permits.acquireUninterruptibly();
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                Object original = originalMessages != null ? originalMessages[i] : mimeMessages[i];
+
+                // 배치 도중 연결당 최대 메일 수에 도달하면 닫고 새로 연결
+                if (connection != null && connection.sent >= maxMessagesPerConnection) {
+                    close(connection);
+                    connection = null;
+                }
+
+                // 연결 실패는 남은 메일도 모두 실패로 처리 (인증 실패는 그대로 전파)
+                if (connection == null) {
+                    try {
+                        connection = borrow();
+                    } catch (AuthenticationFailedException e) {
+                        throw new MailAuthenticationException(e);
+                    } catch (MessagingException e) {
+                        for (int j = i; j < mimeMessages.length; j++) {
+                            failedMessages.put(originalMessages != null ? originalMessages[j]
+                                : mimeMessages[j], e);
+                        }
+                        break;
+                    }
+                }
+
+                try {
+                    send(connection, mimeMessages[i]);
+                } catch (Exception e) {
+                    failedMessages.put(original, e);
+                    // 끊긴 연결은 버리고 다음 메일은 새 연결로 발송
+                    if (!connection.transport.isConnected()) {
+                        close(connection);
+                        connection = null;
+                    }
+                }
+            }
+        } finally {
+            if (connection != null) {
+                giveBack(connection);
+            }
+            permits.release();
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private void send(Connection connection, MimeMessage mimeMessage)
+        throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader("Message-ID", messageId); // saveChanges가 바꾼 ID 복원
+        }
+
+        Address[] addresses = mimeMessage.getAllRecipients();
+        connection.transport.sendMessage(mimeMessage,
+            addresses != null ? addresses : new Address[0]);
+        connection.sent++;
+    }
+
+    // 유휴 연결 중 만료되지 않은 것을 재사용하고, 없으면 새로 연결
+    private Connection borrow() throws MessagingException {
+        long now = System.currentTimeMillis();
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            if (now - connection.releasedAt < idleTimeoutMs
+                && connection.transport.isConnected()) {
+                return connection;
+            }
+            close(connection);
+        }
+
+        return new Connection(connectTransport());
+    }
+
+    private void giveBack(Connection connection) {
+        connection.releasedAt = System.currentTimeMillis();
+        if (connection.sent >= maxMessagesPerConnection || !idle.offer(connection)) {
+            close(connection);
+        }
+    }
+
+    private static void close(Connection connection) {
+        try {
+            connection.transport.close();
+        } catch (MessagingException ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            close(connection);
+        }
+    }
+
+    // 풀에 보관하는 연결과 사용 기록
+    private static final class Connection {
+
+        private final Transport transport;
+        private int sent;
+        private long releasedAt;
+
+        private Connection(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.resumeandportfolio.util.mapper;
 
 import com.example.resumeandportfolio.model.dto.user.UserLoadInfoDto;
 import com.example.resumeandportfolio.model.dto.user.UserLoginResponse;
+import com.example.resumeandportfolio.model.dto.user.UserProfileView;
 import com.example.resumeandportfolio.model.dto.user.UserRegisterRequest;
 import com.example.resumeandportfolio.model.dto.user.UserRegisterResponse;
 import com.example.resumeandportfolio.model.dto.user.UserUpdateResponse;
@@ -26,6 +27,15 @@ public class UserMapper {
         );
     }
 
+    // UserProfileView 프로젝션 → UserLoadInfo DTO
+    public static UserLoadInfoDto toUserLoadInfoDto(UserProfileView profile) {
+        return new UserLoadInfoDto(
+            profile.email(),
+            profile.nickname(),
+            profile.role().name()
+        );
+    }
+
     // Entity → UserLoginResponse DTO
     public static UserLoginResponse toLoginResponse(User user) {
         return new UserLoginResponse(
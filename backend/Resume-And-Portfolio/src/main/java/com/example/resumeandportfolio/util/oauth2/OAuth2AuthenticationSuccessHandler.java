@@ -1,11 +1,13 @@
 package com.example.resumeandportfolio.util.oauth2;
 
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -25,6 +27,7 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
 
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
+    private final TokenEpochService tokenEpochService;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -33,11 +36,15 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
         String email = oAuth2User.getAttribute("email");
 
         // JWT 생성
-        String accessToken = jwtUtil.createJwt("access", email, "ROLE_VISITOR", 600000L);
-        String refreshToken = jwtUtil.createJwt("refresh", email, "ROLE_VISITOR", 86400000L);
+        String sessionId = UUID.randomUUID().toString();
+        long epoch = tokenEpochService.issueEpoch(email);
+        String accessToken = jwtUtil.createJwt("access", email, "ROLE_VISITOR", sessionId, epoch,
+            600000L);
+        String refreshToken = jwtUtil.createJwt("refresh", email, "ROLE_VISITOR", sessionId, epoch,
+            86400000L);
 
         // Redis에 Refresh Token 저장
-        refreshTokenService.saveRefreshToken(email, refreshToken, 86400L);
+        refreshTokenService.saveRefreshToken(email, sessionId, refreshToken, 86400L);
 
         // 쿠키로 Access Token과 Refresh Token 전달
         response.addCookie(createCookie("access", accessToken));
@@ -0,0 +1,59 @@
+package com.example.resumeandportfolio.util.password;
+
+import java.util.Arrays;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * BCrypt Cost Calibrator
+ *
+ * 현재 호스트에서 BCrypt 해시 시간을 측정해 목표 시간 안에 끝나는 가장 높은 cost(strength)를 선택
+ * cost가 1 오를 때마다 해시 시간이 두 배가 되므로 최소 cost의 측정값으로 추정한 뒤, 선택한 cost를 한 번 더 측정해 확인
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    // 목표 시간(ms) 안의 가장 높은 cost (minStrength 미만으로는 내리지 않음)
+    public static int calibrate(long targetMs, int minStrength, int maxStrength) {
+        hashMillis(minStrength); // 워밍업 (JIT)
+        double baseMs = medianMillis(minStrength);
+
+        int strength = minStrength;
+        while (strength < maxStrength
+            && baseMs * (1L << (strength + 1 - minStrength)) <= targetMs) {
+            strength++;
+        }
+
+        // 추정이 빗나가 목표를 넘으면 한 단계 낮춤
+        if (strength > minStrength && hashMillis(strength) > targetMs) {
+            strength--;
+        }
+
+        return strength;
+    }
+
+    private static double medianMillis(int strength) {
+        double[] samples = new double[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = hashMillis(strength);
+        }
+        Arrays.sort(samples);
+
+        return samples[SAMPLES / 2];
+    }
+
+    private static double hashMillis(int strength) {
+        long start = System.nanoTime();
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(strength));
+
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.resumeandportfolio.util.password;
+
+import com.example.resumeandportfolio.exception.CustomException;
+import com.example.resumeandportfolio.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Bounded Password Encoder
+ *
+ * 비밀번호 해시(encode, matches)를 요청 스레드 대신 CPU 코어 수 크기의 전용 스레드 풀에서 실행
+ * 로그인이 몰려도 해시 작업이 Tomcat 요청 스레드를 모두 붙잡지 않아 다른 API는 계속 처리
+ * 큐가 가득 차거나 max-queue-wait 안에 실행되지 못한 요청은 해시 없이 바로 503(PASSWORD_HASHING_BUSY)으로 실패
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitNanos;
+
+    private final Timer queueWait;
+    private final Timer encodeLatency;
+    private final Timer matchesLatency;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+        long maxQueueWaitMs, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueWaitMs);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable,
+                    "password-hash-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        this.queueWait = Timer.builder("password.hash.queue")
+            .description("해시 작업이 실행되기 전 큐에서 기다린 시간")
+            .register(meterRegistry);
+        this.encodeLatency = Timer.builder("password.hash.latency")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.matchesLatency = Timer.builder("password.hash.latency")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+        this.rejected = meterRegistry.counter("password.hash.rejected");
+        Gauge.builder("password.hash.queue.size", executor, pool -> pool.getQueue().size())
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeLatency);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesLatency);
+    }
+
+    // 해시 없이 형식만 확인하므로 호출 스레드에서 실행
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // 풀에서 실행하고 결과를 기다림 (max-queue-wait 안에 시작하지 못하면 작업을 취소하고 실패)
+    private <T> T run(Supplier<T> work, Timer latency) {
+        HashTask<T> task = new HashTask<>(work, latency);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+
+        try {
+            try {
+                return task.result.get(maxQueueWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (task.claimed.compareAndSet(false, true)) {
+                    executor.remove(task); // 아직 큐에 있는 작업은 실행하지 않고 자리를 비움
+                    throw busy();
+                }
+                return task.result.get(); // 이미 시작한 해시는 끝날 때까지 기다림
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.claimed.set(true);
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private CustomException busy() {
+        rejected.increment();
+        return new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // 큐 대기 시간과 해시 시간을 기록하는 작업 (호출한 쪽이 먼저 포기하면 실행하지 않음)
+    private final class HashTask<T> implements Runnable {
+
+        private final Supplier<T> work;
+        private final Timer latency;
+        private final long enqueuedAt = System.nanoTime();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private HashTask(Supplier<T> work, Timer latency) {
+            this.work = work;
+            this.latency = latency;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            queueWait.record(start - enqueuedAt, TimeUnit.NANOSECONDS);
+            T value = null;
+            Throwable failure = null;
+            try {
+                value = work.get();
+            } catch (Throwable t) {
+                failure = t;
+            }
+            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.resumeandportfolio.util.ratelimit;
+
+import com.example.resumeandportfolio.config.RateLimitProperties;
+import com.example.resumeandportfolio.config.RateLimitProperties.Limit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate Limiter
+ *
+ * 키(엔드포인트 + IP 또는 이메일)별 토큰 버킷을 Redis에 두고 Lua 스크립트로 확인과 차감을 원자적으로 처리 (여러 노드 공유)
+ * 노드마다 같은 규칙의 로컬 버킷도 유지: 로컬 버킷은 이 노드가 허용한 요청만 차감하므로 Redis 버킷보다 항상 토큰이 많거나 같음
+ * 따라서 로컬 버킷이 비었거나 Redis가 거부한 대기 시간 안의 요청은 Redis 호출 없이 거부 (공격 트래픽이 Redis까지 가지 않음)
+ * 허용할 때는 Redis에서 토큰을 capacity * local-fraction개(최소 1개)까지 한 번에 예약하고, 예약분은 Redis 호출 없이 허용
+ * 예약분은 Redis에서 이미 차감했으므로 전체 제한은 그대로 지켜지고, 주기(period)가 지나면 버림
+ * Redis 장애 시에는 로컬 버킷만으로 제한 (노드별 제한)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // 모든 버킷에 토큰이 있으면 버킷별로 최대 batch개(최소 1개) 차감, 아니면 차감 없이
+    // 버킷별 대기 시간(ms) 반환 (0: 여유 있음) - 결과는 [대기 시간 n개, 차감한 토큰 수 n개]
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Long>> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+        local now = tonumber(ARGV[1])
+        local n = #KEYS
+        local tokens = {}
+        local waits = {}
+        local grants = {}
+        local denied = false
+        for i = 1, n do
+            local capacity = tonumber(ARGV[i * 3 - 1])
+            local period = tonumber(ARGV[i * 3])
+            local batch = tonumber(ARGV[i * 3 + 1])
+            local state = redis.call('HMGET', KEYS[i], 't', 'ts')
+            local available = tonumber(state[1]) or capacity
+            local elapsed = math.max(0, now - (tonumber(state[2]) or now))
+            available = math.min(capacity, available + elapsed * capacity / period)
+            tokens[i] = available
+            if available < 1 then
+                waits[i] = math.ceil((1 - available) * period / capacity)
+                grants[i] = 0
+                denied = true
+            else
+                waits[i] = 0
+                grants[i] = math.min(batch, math.floor(available))
+            end
+        end
+        if not denied then
+            for i = 1, n do
+                redis.call('HSET', KEYS[i], 't', tostring(tokens[i] - grants[i]), 'ts', now)
+                redis.call('PEXPIRE', KEYS[i], ARGV[i * 3])
+            end
+        end
+        for i = 1, n do
+            waits[n + i] = grants[i]
+        end
+        return waits
+        """, (Class<List<Long>>) (Class<?>) List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, LocalBucket> localBuckets;
+    private final MeterRegistry meterRegistry;
+    private final Counter redisErrors;
+    private final double localFraction;
+
+    public RateLimiter(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+        RateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localBuckets = Caffeine.newBuilder()
+            .maximumSize(properties.getLocalCacheSize())
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+        this.redisErrors = meterRegistry.counter("ratelimit.redis.errors");
+        this.localFraction = properties.getLocalFraction();
+    }
+
+    // 요청 허용 시 0, 거부 시 다시 시도할 수 있을 때까지의 시간(ms)
+    public long acquire(String endpoint, RateLimitProperties.Endpoint rule, String ip,
+        String email) {
+        List<String> keys = new ArrayList<>(2);
+        List<Limit> limits = new ArrayList<>(2);
+        if (rule.getIp() != null && ip != null) {
+            keys.add(KEY_PREFIX + endpoint + ":ip:" + ip);
+            limits.add(rule.getIp());
+        }
+        if (rule.getEmail() != null && email != null && !email.isBlank()) {
+            keys.add(KEY_PREFIX + endpoint + ":email:" + email.strip().toLowerCase(Locale.ROOT));
+            limits.add(rule.getEmail());
+        }
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+
+        long now = System.currentTimeMillis();
+        LocalBucket[] buckets = new LocalBucket[keys.size()];
+        long localWait = 0L;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = localBuckets.get(keys.get(i), key -> new LocalBucket());
+            localWait = Math.max(localWait, buckets[i].waitMs(limits.get(i), now));
+        }
+        if (localWait > 0L) {
+            count(endpoint, "local_denied");
+            return localWait;
+        }
+
+        // 예약분이 남은 키는 로컬에서 차감하고, 나머지 키만 Redis에서 확인 (모두 예약분이면 Redis 호출 없음)
+        boolean[] reserved = new boolean[buckets.length];
+        List<Integer> remote = new ArrayList<>(buckets.length);
+        for (int i = 0; i < buckets.length; i++) {
+            reserved[i] = buckets[i].takeReserved(now);
+            if (!reserved[i]) {
+                remote.add(i);
+            }
+        }
+        if (remote.isEmpty()) {
+            consume(buckets, limits, now);
+            count(endpoint, "local_allowed");
+            return 0L;
+        }
+
+        List<Long> results;
+        try {
+            results = redisTemplate.execute(ACQUIRE_SCRIPT,
+                remote.stream().map(keys::get).toList(), arguments(remote, limits, now));
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            results = null;
+        }
+
+        if (results == null) {
+            // Redis를 사용할 수 없으면 로컬 버킷으로만 제한
+            consume(buckets, limits, now);
+            count(endpoint, "allowed");
+            return 0L;
+        }
+
+        long wait = 0L;
+        for (int j = 0; j < remote.size(); j++) {
+            long keyWait = results.get(j);
+            if (keyWait > 0L) {
+                buckets[remote.get(j)].block(now + keyWait); // 대기 시간 동안은 로컬에서 바로 거부
+            }
+            wait = Math.max(wait, keyWait);
+        }
+        if (wait > 0L) {
+            // 거부된 요청이 쓴 예약분은 되돌림
+            for (int i = 0; i < buckets.length; i++) {
+                if (reserved[i]) {
+                    buckets[i].returnReserved();
+                }
+            }
+            count(endpoint, "denied");
+            return wait;
+        }
+
+        // 이번 요청에 하나를 쓰고 남은 토큰은 예약분으로 보관
+        for (int j = 0; j < remote.size(); j++) {
+            int index = remote.get(j);
+            buckets[index].reserve(results.get(remote.size() + j).intValue() - 1,
+                now + limits.get(index).getPeriod().toMillis());
+        }
+        consume(buckets, limits, now);
+        count(endpoint, "allowed");
+        return 0L;
+    }
+
+    private static void consume(LocalBucket[] buckets, List<Limit> limits, long now) {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i].consume(limits.get(i), now);
+        }
+    }
+
+    private Object[] arguments(List<Integer> remote, List<Limit> limits, long now) {
+        Object[] args = new Object[1 + remote.size() * 3];
+        args[0] = String.valueOf(now);
+        for (int j = 0; j < remote.size(); j++) {
+            Limit limit = limits.get(remote.get(j));
+            args[1 + j * 3] = String.valueOf(limit.getCapacity());
+            args[2 + j * 3] = String.valueOf(limit.getPeriod().toMillis());
+            args[3 + j * 3] = String.valueOf(batch(limit));
+        }
+        return args;
+    }
+
+    // 한 번에 예약할 토큰 수
+    private int batch(Limit limit) {
+        return Math.max(1, (int) (limit.getCapacity() * localFraction));
+    }
+
+    private void count(String endpoint, String result) {
+        meterRegistry.counter("ratelimit.requests", "endpoint", endpoint, "result", result)
+            .increment();
+    }
+
+    // 노드 로컬 토큰 버킷 (Redis 버킷과 같은 규칙으로 채움)
+    static final class LocalBucket {
+
+        private double tokens = -1;
+        private long updatedAt;
+        private long blockedUntil;
+        private int reserved;
+        private long reservedUntil;
+
+        synchronized long waitMs(Limit limit, long now) {
+            if (now < blockedUntil) {
+                return blockedUntil - now;
+            }
+            refill(limit, now);
+            if (tokens >= 1) {
+                return 0L;
+            }
+            return (long) Math.ceil((1 - tokens) * limit.getPeriod().toMillis()
+                / limit.getCapacity());
+        }
+
+        synchronized void consume(Limit limit, long now) {
+            refill(limit, now);
+            tokens = Math.max(0, tokens - 1);
+        }
+
+        synchronized void block(long until) {
+            blockedUntil = Math.max(blockedUntil, until);
+        }
+
+        // Redis에서 예약해 둔 토큰 하나 사용 (만료된 예약분은 버림)
+        synchronized boolean takeReserved(long now) {
+            if (reserved > 0 && now < reservedUntil) {
+                reserved--;
+                return true;
+            }
+            reserved = 0;
+            return false;
+        }
+
+        synchronized void returnReserved() {
+            reserved++;
+        }
+
+        synchronized void reserve(int count, long until) {
+            if (count > 0) {
+                reserved += count;
+                reservedUntil = Math.max(reservedUntil, until);
+            }
+        }
+
+        private void refill(Limit limit, long now) {
+            if (tokens < 0) {
+                tokens = limit.getCapacity();
+                updatedAt = now;
+                return;
+            }
+            long elapsed = Math.max(0L, now - updatedAt);
+            tokens = Math.min(limit.getCapacity(),
+                tokens + (double) elapsed * limit.getCapacity() / limit.getPeriod().toMillis());
+            updatedAt = now;
+        }
+    }
+}
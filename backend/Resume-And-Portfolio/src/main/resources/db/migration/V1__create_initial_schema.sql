@@ -0,0 +1,14 @@
+-- Flyway 도입 전 ddl-auto로 만든 스키마 (users만 존재, 기존 DB는 baseline 1로 표시되어 이 파일을 건너뜀)
+
+CREATE TABLE users (
+    user_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    nickname   VARCHAR(15)  NOT NULL,
+    role       VARCHAR(20)  NOT NULL,
+    deleted_at DATETIME(6),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
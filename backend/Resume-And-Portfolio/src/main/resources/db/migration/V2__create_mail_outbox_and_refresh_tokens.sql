@@ -0,0 +1,26 @@
+-- baseline 이후 추가된 테이블 (메일 outbox, JDBC Refresh 토큰 저장소)
+
+CREATE TABLE mail_outbox (
+    mail_id         BIGINT       NOT NULL AUTO_INCREMENT,
+    type            VARCHAR(20)  NOT NULL,
+    recipient       VARCHAR(255) NOT NULL,
+    token           VARCHAR(255),
+    locale          VARCHAR(10),
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (mail_id)
+);
+
+CREATE INDEX idx_mail_outbox_status_next_attempt ON mail_outbox (status, next_attempt_at);
+
+-- spring.jwt.refresh.store=jdbc일 때 사용
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    username     VARCHAR(255) NOT NULL,
+    session_id   VARCHAR(64)  NOT NULL,
+    token_digest VARCHAR(64)  NOT NULL,
+    expires_at   BIGINT       NOT NULL,
+    PRIMARY KEY (username, session_id)
+);
@@ -0,0 +1,2 @@
+-- findByEmailAndDeletedAtIsNull, findProfileByEmail, findCredentialsByEmail (로그인, 회원 가입, 사용자 정보 조회)
+CREATE INDEX idx_users_email_deleted_at ON users (email, deleted_at);
@@ -0,0 +1,51 @@
+package com.example.resumeandportfolio.config;
+
+import com.example.resumeandportfolio.util.id.TimeSortedIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JPA Configuration Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class JpaConfigTest {
+
+    private final JpaConfig jpaConfig = new JpaConfig();
+
+    @Test
+    @DisplayName("노드 ID 테스트 - 운영 환경에서 id.node-id가 없으면 시작 실패")
+    void missingNodeIdFailsOutsideDevProfiles() {
+        // Given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> jpaConfig.timeSortedIds(environment, -1));
+        assertThat(exception.getMessage()).contains("id.node-id");
+    }
+
+    @Test
+    @DisplayName("노드 ID 테스트 - 개발, 테스트 프로필에서는 0, 지정하면 그 값 사용")
+    void nodeIdFromPropertyOrDevDefault() {
+        // Given
+        MockEnvironment test = new MockEnvironment();
+        test.setActiveProfiles("test");
+        long shift = 7; // 순번 비트 수
+
+        // When
+        TimeSortedIds devIds = jpaConfig.timeSortedIds(test, -1);
+        TimeSortedIds configuredIds = jpaConfig.timeSortedIds(new MockEnvironment(), 5);
+
+        // Then
+        assertThat(devIds.nextId() >> shift & 31).isZero();
+        assertThat(configuredIds.nextId() >> shift & 31).isEqualTo(5L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.resumeandportfolio.config;
+
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Schema Migration Test
+ *
+ * H2에 마이그레이션을 적용하고 엔티티 매핑(ddl-auto=validate)과 필요한 인덱스 확인
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@ActiveProfiles("test")
+@Import({JpaConfig.class, SchemaIndexVerifier.class})
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private SchemaIndexVerifier schemaIndexVerifier;
+
+    @Test
+    @DisplayName("마이그레이션 테스트 - 모든 버전 적용 후 엔티티 검증과 인덱스 확인 통과")
+    void migrationsMatchEntitiesAndIndexes() {
+        // Then
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("3");
+        assertThat(schemaIndexVerifier.missingIndexes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스 확인 테스트 - 필요한 인덱스가 없으면 시작 실패")
+    void verifierFailsWhenIndexIsMissing() {
+        // Given: 인덱스 없이 ddl-auto로 만든 것과 같은 테이블
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (user_id BIGINT PRIMARY KEY, "
+            + "email VARCHAR(255) NOT NULL UNIQUE, deleted_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE mail_outbox (mail_id BIGINT PRIMARY KEY, "
+            + "status VARCHAR(20), next_attempt_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX idx_mail_outbox_status_next_attempt "
+            + "ON mail_outbox (status, next_attempt_at)");
+        SchemaIndexVerifier verifier = new SchemaIndexVerifier(dataSource);
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            verifier::afterSingletonsInstantiated);
+        assertThat(exception.getMessage()).contains("users(email, deleted_at)")
+            .doesNotContain("users(email),").doesNotContain("mail_outbox");
+    }
+
+    @Test
+    @DisplayName("마이그레이션 테스트 - 이력 테이블 없이 users만 있는 기존 DB는 baseline 후 나머지 테이블과 인덱스 생성")
+    void existingDatabaseIsBaselinedAndUpgraded() {
+        // Given: Flyway 도입 전 ddl-auto로 만든 스키마 (users만 존재)
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (user_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "email VARCHAR(255) NOT NULL UNIQUE, password VARCHAR(255) NOT NULL, "
+            + "nickname VARCHAR(15) NOT NULL, role VARCHAR(20) NOT NULL, "
+            + "deleted_at TIMESTAMP(6), created_at TIMESTAMP(6), updated_at TIMESTAMP(6))");
+        jdbcTemplate.update("INSERT INTO users (email, password, nickname, role) "
+            + "VALUES ('old@example.com', 'encoded_password', 'Old', 'VISITOR')");
+
+        // When: 애플리케이션과 같은 설정(baseline-on-migrate)으로 마이그레이션
+        Flyway upgrade = Flyway.configure()
+            .dataSource(dataSource)
+            .baselineOnMigrate(true)
+            .load();
+        upgrade.migrate();
+
+        // Then: V1은 건너뛰고 V2, V3 적용, 기존 데이터 유지
+        assertThat(upgrade.info().current().getVersion().getVersion()).isEqualTo("3");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class))
+            .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mail_outbox", Integer.class))
+            .isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens",
+            Integer.class)).isZero();
+        assertThat(new SchemaIndexVerifier(dataSource).missingIndexes()).isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.resumeandportfolio.controller.user;
+
+import com.example.resumeandportfolio.util.jwt.JwtKeyRing;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWKS Controller Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class JwksControllerTest {
+
+    @Mock
+    private JwtKeyRing jwtKeyRing;
+
+    @InjectMocks
+    private JwksController jwksController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("JWKS 조회 테스트 - 공개 키 목록과 캐시 헤더 반환")
+    void jwksTest() {
+        // Given
+        Map<String, Object> jwk = Map.of("kty", "EC", "kid", "a1", "use", "sig");
+        when(jwtKeyRing.publicJwks()).thenReturn(List.of(jwk));
+
+        // When
+        ResponseEntity<Map<String, List<Map<String, Object>>>> response = jwksController.jwks();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("keys", List.of(jwk));
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL))
+            .isEqualTo("max-age=300, public");
+    }
+}
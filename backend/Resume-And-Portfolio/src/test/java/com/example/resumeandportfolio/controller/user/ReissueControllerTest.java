@@ -1,9 +1,13 @@
 package com.example.resumeandportfolio.controller.user;
 
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
+import com.example.resumeandportfolio.util.jwt.JwtClaims;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
+import java.util.Date;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,8 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,12 +39,16 @@ class ReissueControllerTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
     @InjectMocks
     private ReissueController reissueController;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(tokenEpochService.isCurrent(anyString(), anyLong())).thenReturn(true);
     }
 
     @Test
@@ -81,7 +91,7 @@ class ReissueControllerTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         request.setCookies(new MockCookie("refresh", expiredToken));
 
-        doThrow(ExpiredJwtException.class).when(jwtUtil).isExpired(expiredToken);
+        doThrow(ExpiredJwtException.class).when(jwtUtil).parseToken(expiredToken);
 
         // When
         var result = reissueController.reissue(request, response);
@@ -100,7 +110,7 @@ class ReissueControllerTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         request.setCookies(new MockCookie("refresh", invalidToken));
 
-        when(jwtUtil.getCategory(invalidToken)).thenReturn("invalid");
+        when(jwtUtil.parseToken(invalidToken)).thenReturn(claims("invalid", "user@example.com", "USER"));
 
         // When
         var result = reissueController.reissue(request, response);
@@ -111,18 +121,39 @@ class ReissueControllerTest {
     }
 
     @Test
-    @DisplayName("토큰 재발급 실패 테스트 - 저장된 토큰과 일치하지 않음")
-    void reissue_mismatchedToken_returnsBadRequest() throws Exception {
+    @DisplayName("토큰 재발급 실패 테스트 - 저장된 토큰이 없음")
+    void reissue_notFoundToken_returnsBadRequest() throws Exception {
         // Given
         String validToken = "validRefreshToken";
-        String mismatchedToken = "mismatchedToken";
         MockHttpServletRequest request = new MockHttpServletRequest();
         MockHttpServletResponse response = new MockHttpServletResponse();
         request.setCookies(new MockCookie("refresh", validToken));
 
-        when(jwtUtil.getCategory(validToken)).thenReturn("refresh");
-        when(jwtUtil.getUsername(validToken)).thenReturn("user@example.com");
-        when(refreshTokenService.getRefreshToken("user@example.com")).thenReturn(mismatchedToken);
+        when(jwtUtil.parseToken(validToken)).thenReturn(claims("refresh", "user@example.com", "USER"));
+        when(refreshTokenService.rotateRefreshToken(eq("user@example.com"), eq("session-1"),
+            eq(validToken), any(),
+            eq(86400L))).thenReturn(RefreshTokenRotationResult.NOT_FOUND);
+
+        // When
+        var result = reissueController.reissue(request, response);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(result.getBody()).isEqualTo("invalid refresh token");
+        assertThat(response.getCookie("refresh")).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 테스트 - 비밀번호 변경 등으로 토큰 세대가 지난 경우")
+    void reissue_outdatedEpoch_returnsBadRequest() throws Exception {
+        // Given
+        String oldToken = "oldEpochRefreshToken";
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setCookies(new MockCookie("refresh", oldToken));
+
+        when(jwtUtil.parseToken(oldToken)).thenReturn(claims("refresh", "user@example.com", "USER"));
+        when(tokenEpochService.isCurrent("user@example.com", 0L)).thenReturn(false);
 
         // When
         var result = reissueController.reissue(request, response);
@@ -130,6 +161,31 @@ class ReissueControllerTest {
         // Then
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(result.getBody()).isEqualTo("invalid refresh token");
+        verify(refreshTokenService, never()).rotateRefreshToken(any(), any(), any(), any(),
+            anyLong());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 테스트 - 이미 교체된 토큰 재사용")
+    void reissue_staleToken_returnsBadRequest() throws Exception {
+        // Given
+        String staleToken = "staleRefreshToken";
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setCookies(new MockCookie("refresh", staleToken));
+
+        when(jwtUtil.parseToken(staleToken)).thenReturn(claims("refresh", "user@example.com", "USER"));
+        when(refreshTokenService.rotateRefreshToken(eq("user@example.com"), eq("session-1"),
+            eq(staleToken), any(),
+            eq(86400L))).thenReturn(RefreshTokenRotationResult.STALE);
+
+        // When
+        var result = reissueController.reissue(request, response);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(result.getBody()).isEqualTo("refresh token reused");
+        assertThat(response.getHeader("Authorization")).isNull();
     }
 
     @Test
@@ -147,13 +203,13 @@ class ReissueControllerTest {
         MockCookie refreshCookie = new MockCookie("refresh", validToken);
         request.setCookies(refreshCookie);
 
-        when(jwtUtil.isExpired(validToken)).thenReturn(false);
-        when(jwtUtil.getCategory(validToken)).thenReturn("refresh");
-        when(jwtUtil.getUsername(validToken)).thenReturn(username);
-        when(jwtUtil.getRole(validToken)).thenReturn(role);
-        when(refreshTokenService.getRefreshToken(username)).thenReturn(validToken);
-        when(jwtUtil.createJwt("access", username, role, 600000L)).thenReturn(newAccessToken);
-        when(jwtUtil.createJwt("refresh", username, role, 86400000L)).thenReturn(newRefreshToken);
+        when(jwtUtil.parseToken(validToken)).thenReturn(claims("refresh", username, role));
+        when(tokenEpochService.issueEpoch(username)).thenReturn(2L);
+        when(jwtUtil.createJwt("access", username, role, "session-1", 2L, 600000L)).thenReturn(newAccessToken);
+        when(jwtUtil.createJwt("refresh", username, role, "session-1", 2L, 86400000L)).thenReturn(newRefreshToken);
+        when(refreshTokenService.rotateRefreshToken(username, "session-1", validToken,
+            newRefreshToken, 86400L))
+            .thenReturn(RefreshTokenRotationResult.ROTATED);
 
         // When
         var result = reissueController.reissue(request, response);
@@ -169,7 +225,14 @@ class ReissueControllerTest {
         assertThat(responseCookie.getSecure()).isTrue();
         assertThat(responseCookie.getMaxAge()).isEqualTo(24*60*60);
 
-        verify(refreshTokenService).deleteRefreshToken(username);
-        verify(refreshTokenService).saveRefreshToken(username, newRefreshToken, 86400000L);
+        verify(refreshTokenService).rotateRefreshToken(username, "session-1", validToken,
+            newRefreshToken, 86400L);
+        verifyNoMoreInteractions(refreshTokenService);
+    }
+
+    private JwtClaims claims(String category, String username, String role) {
+        Date now = new Date();
+        return new JwtClaims(category, username, role, "session-1", "token-1", 0L,
+            new Date(now.getTime() + 60000L), now);
     }
 }
\ No newline at end of file
@@ -3,12 +3,18 @@ package com.example.resumeandportfolio.controller.user;
 import com.example.resumeandportfolio.exception.CustomException;
 import com.example.resumeandportfolio.exception.ErrorCode;
 import com.example.resumeandportfolio.exception.GlobalExceptionHandler;
+import com.example.resumeandportfolio.filter.JwtFilter;
 import com.example.resumeandportfolio.model.dto.user.*;
 import com.example.resumeandportfolio.model.enums.Role;
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
 import com.example.resumeandportfolio.service.user.UserService;
+import com.example.resumeandportfolio.util.jwt.JwtClaims;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
+import com.example.resumeandportfolio.util.jwt.TokenRevocationList;
+import com.example.resumeandportfolio.util.jwt.VerifiedTokenCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Date;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -51,6 +57,15 @@ public class UserControllerTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
     @InjectMocks
     private UserController userController;
 
@@ -80,7 +95,8 @@ public class UserControllerTest {
             Role.valueOf("VISITOR"));
 
         when(userService.login(request.email(), request.password())).thenReturn(response);
-        when(jwtUtil.createJwt(anyString(), anyString(), anyString(), anyLong())).thenReturn(
+        when(jwtUtil.createJwt(anyString(), anyString(), anyString(), anyString(), anyLong(),
+            anyLong())).thenReturn(
             "dummyAccessToken", "dummyRefreshToken");
 
         // When & Then
@@ -90,7 +106,8 @@ public class UserControllerTest {
             .andExpect(status().isOk());
 
         verify(userService, times(1)).login(request.email(), request.password());
-        verify(refreshTokenService, times(1)).saveRefreshToken(anyString(), anyString(), anyLong());
+        verify(refreshTokenService, times(1)).saveRefreshToken(anyString(), anyString(), anyString(),
+            anyLong());
     }
 
     @Test
@@ -352,7 +369,26 @@ public class UserControllerTest {
             .andExpect(status().isOk());
 
         verify(userService, times(1)).deleteUser("test@example.com");
-        verify(refreshTokenService, times(1)).deleteRefreshToken("test@example.com");
+        verify(verifiedTokenCache, times(1)).invalidateUser("test@example.com");
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 성공 테스트 - 현재 Access Token 폐기")
+    void deleteUserRevokesAccessTokenTest() throws Exception {
+        // Given
+        mockSecurityContext("test@example.com");
+        Date expiration = new Date(System.currentTimeMillis() + 60000L);
+        JwtClaims claims = new JwtClaims("access", "test@example.com", "ROLE_VISITOR",
+            "session-1", "token-1", 0L, expiration, new Date());
+
+        // When & Then
+        mockMvc.perform(delete("/api/users/delete")
+                .header("access", "accessToken")
+                .requestAttr(JwtFilter.CLAIMS_ATTRIBUTE, claims))
+            .andExpect(status().isOk());
+
+        verify(tokenRevocationList, times(1)).revoke("token-1", expiration);
+        verify(jwtUtil, never()).parseToken(anyString());
     }
 
     @Test
@@ -1,10 +1,14 @@
 package com.example.resumeandportfolio.filter;
 
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.util.jwt.JwtClaims;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
+import com.example.resumeandportfolio.util.jwt.TokenRevocationList;
+import com.example.resumeandportfolio.util.jwt.VerifiedTokenCache;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.Date;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockFilterChain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,6 +38,12 @@ class CustomLogoutFilterTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
     @InjectMocks
     private CustomLogoutFilter customLogoutFilter;
 
@@ -54,10 +65,9 @@ class CustomLogoutFilterTest {
 
         request.setCookies(new Cookie("refresh", refreshToken));
 
-        when(jwtUtil.isExpired(refreshToken)).thenReturn(false);
-        when(jwtUtil.getCategory(refreshToken)).thenReturn("refresh");
-        when(jwtUtil.getUsername(refreshToken)).thenReturn(username);
-        when(refreshTokenService.getRefreshToken(username)).thenReturn(refreshToken);
+        when(jwtUtil.parseToken(refreshToken)).thenReturn(claims("refresh", username));
+        when(refreshTokenService.matchesRefreshToken(username, "session-1", refreshToken))
+            .thenReturn(true);
 
         // When
         customLogoutFilter.doFilter(request, response, filterChain);
@@ -67,7 +77,38 @@ class CustomLogoutFilterTest {
         assertThat(response.getCookies()).anyMatch(cookie ->
             "refresh".equals(cookie.getName()) && cookie.getMaxAge() == 0
         );
-        verify(refreshTokenService, times(1)).deleteRefreshToken(username);
+        verify(refreshTokenService, times(1)).deleteRefreshToken(username, "session-1");
+        verify(verifiedTokenCache, times(1)).invalidateSession(username, "session-1");
+        verify(verifiedTokenCache, never()).invalidateUser(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 테스트 - 함께 전달된 Access Token 폐기")
+    void logoutSuccessRevokesAccessTokenTest() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/logout");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        String refreshToken = "validRefreshToken";
+        String accessToken = "validAccessToken";
+        String username = "user@example.com";
+
+        request.setCookies(new Cookie("refresh", refreshToken));
+        request.addHeader("access", accessToken);
+
+        JwtClaims accessClaims = claims("access", username);
+        when(jwtUtil.parseToken(refreshToken)).thenReturn(claims("refresh", username));
+        when(jwtUtil.parseToken(accessToken)).thenReturn(accessClaims);
+        when(refreshTokenService.matchesRefreshToken(username, "session-1", refreshToken))
+            .thenReturn(true);
+
+        // When
+        customLogoutFilter.doFilter(request, response, filterChain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        verify(tokenRevocationList, times(1)).revoke("token-1", accessClaims.expiration());
     }
 
     @Test
@@ -97,14 +138,14 @@ class CustomLogoutFilterTest {
         String refreshToken = "expiredRefreshToken";
         request.setCookies(new Cookie("refresh", refreshToken));
 
-        doThrow(ExpiredJwtException.class).when(jwtUtil).isExpired(refreshToken);
+        doThrow(ExpiredJwtException.class).when(jwtUtil).parseToken(refreshToken);
 
         // When
         customLogoutFilter.doFilter(request, response, filterChain);
 
         // Then
         assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
-        verify(jwtUtil, times(1)).isExpired(refreshToken);
+        verify(jwtUtil, times(1)).parseToken(refreshToken);
         verifyNoInteractions(refreshTokenService);
     }
 
@@ -119,15 +160,14 @@ class CustomLogoutFilterTest {
         String refreshToken = "invalidCategoryToken";
         request.setCookies(new Cookie("refresh", refreshToken));
 
-        when(jwtUtil.isExpired(refreshToken)).thenReturn(false);
-        when(jwtUtil.getCategory(refreshToken)).thenReturn("access");
+        when(jwtUtil.parseToken(refreshToken)).thenReturn(claims("access", "user@example.com"));
 
         // When
         customLogoutFilter.doFilter(request, response, filterChain);
 
         // Then
         assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
-        verify(jwtUtil, times(1)).getCategory(refreshToken);
+        verify(jwtUtil, times(1)).parseToken(refreshToken);
         verifyNoInteractions(refreshTokenService);
     }
 
@@ -144,17 +184,23 @@ class CustomLogoutFilterTest {
 
         request.setCookies(new Cookie("refresh", refreshToken));
 
-        when(jwtUtil.isExpired(refreshToken)).thenReturn(false);
-        when(jwtUtil.getCategory(refreshToken)).thenReturn("refresh");
-        when(jwtUtil.getUsername(refreshToken)).thenReturn(username);
-        when(refreshTokenService.getRefreshToken(username)).thenReturn("differentToken");
+        when(jwtUtil.parseToken(refreshToken)).thenReturn(claims("refresh", username));
+        when(refreshTokenService.matchesRefreshToken(username, "session-1", refreshToken))
+            .thenReturn(false);
 
         // When
         customLogoutFilter.doFilter(request, response, filterChain);
 
         // Then
         assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
-        verify(refreshTokenService, times(1)).getRefreshToken(username);
-        verify(refreshTokenService, times(0)).deleteRefreshToken(username);
+        verify(refreshTokenService, times(1)).matchesRefreshToken(username, "session-1", refreshToken);
+        verify(refreshTokenService, times(0)).deleteRefreshToken(anyString(), anyString());
+        verifyNoInteractions(verifiedTokenCache);
+    }
+
+    private JwtClaims claims(String category, String username) {
+        Date now = new Date();
+        return new JwtClaims(category, username, "ROLE_VISITOR", "session-1", "token-1", 0L,
+            new Date(now.getTime() + 60000L), now);
     }
 }
\ No newline at end of file
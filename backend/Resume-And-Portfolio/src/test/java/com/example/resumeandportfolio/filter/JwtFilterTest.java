@@ -1,7 +1,10 @@
 package com.example.resumeandportfolio.filter;
 
 import com.example.resumeandportfolio.model.enums.Role;
-import com.example.resumeandportfolio.util.jwt.JwtUtil;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
+import com.example.resumeandportfolio.util.jwt.JwtClaims;
+import com.example.resumeandportfolio.util.jwt.TokenRevocationList;
+import com.example.resumeandportfolio.util.jwt.VerifiedTokenCache;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletResponse;
@@ -16,6 +19,7 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.io.IOException;
+import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -30,7 +34,13 @@ import static org.mockito.Mockito.*;
 class JwtFilterTest {
 
     @Mock
-    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private TokenEpochService tokenEpochService;
 
     @InjectMocks
     private JwtFilter jwtFilter;
@@ -38,6 +48,7 @@ class JwtFilterTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(tokenEpochService.isCurrent(anyString(), anyLong())).thenReturn(true);
     }
 
     @Test
@@ -54,10 +65,8 @@ class JwtFilterTest {
 
         request.addHeader("access", accessToken);
 
-        when(jwtUtil.isExpired(accessToken)).thenReturn(false);
-        when(jwtUtil.getCategory(accessToken)).thenReturn("access");
-        when(jwtUtil.getUsername(accessToken)).thenReturn(email);
-        when(jwtUtil.getRole(accessToken)).thenReturn(role.name());
+        JwtClaims claims = claims("access", email, role.name());
+        when(verifiedTokenCache.verify(accessToken)).thenReturn(claims);
 
         // When
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -65,10 +74,9 @@ class JwtFilterTest {
         // Then
         assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
         assertThat(filterChain.getRequest()).isNotNull();
-        verify(jwtUtil, times(1)).isExpired(accessToken);
-        verify(jwtUtil, times(1)).getCategory(accessToken);
-        verify(jwtUtil, times(1)).getUsername(accessToken);
-        verify(jwtUtil, times(1)).getRole(accessToken);
+        assertThat(request.getAttribute(JwtFilter.CLAIMS_ATTRIBUTE)).isSameAs(claims);
+        verify(verifiedTokenCache, times(1)).verify(accessToken);
+        verifyNoMoreInteractions(verifiedTokenCache);
     }
 
     @Test
@@ -86,7 +94,7 @@ class JwtFilterTest {
 
         // Then
         assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK); // 다음 필터로 전달
-        verifyNoInteractions(jwtUtil);
+        verifyNoInteractions(verifiedTokenCache);
     }
 
     @Test
@@ -101,8 +109,8 @@ class JwtFilterTest {
 
         request.addHeader("access", expiredToken);
 
-        // Mock 설정: jwtUtil.isExpired가 ExpiredJwtException을 던지도록 설정
-        doThrow(new ExpiredJwtException(null, null, "Token expired")).when(jwtUtil).isExpired(expiredToken);
+        // Mock 설정: verifiedTokenCache.verify가 ExpiredJwtException을 던지도록 설정
+        doThrow(new ExpiredJwtException(null, null, "Token expired")).when(verifiedTokenCache).verify(expiredToken);
 
         // When
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -110,8 +118,7 @@ class JwtFilterTest {
         // Then
         assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
         assertThat(response.getContentAsString()).contains("access token expired");
-        verify(jwtUtil, times(1)).isExpired(expiredToken);
-        verify(jwtUtil, never()).getCategory(anyString());
+        verify(verifiedTokenCache, times(1)).verify(expiredToken);
     }
 
     @Test
@@ -126,8 +133,8 @@ class JwtFilterTest {
 
         request.addHeader("access", invalidToken);
 
-        when(jwtUtil.isExpired(invalidToken)).thenReturn(false);
-        when(jwtUtil.getCategory(invalidToken)).thenReturn("refresh"); // 잘못된 카테고리
+        when(verifiedTokenCache.verify(invalidToken)).thenReturn(
+            claims("refresh", "test@example.com", Role.VISITOR.name())); // 잘못된 카테고리
 
         // When
         jwtFilter.doFilterInternal(request, response, filterChain);
@@ -135,8 +142,63 @@ class JwtFilterTest {
         // Then
         assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
         assertThat(response.getContentAsString()).contains("invalid access token");
-        verify(jwtUtil, times(1)).isExpired(invalidToken);
-        verify(jwtUtil, times(1)).getCategory(invalidToken);
-        verify(jwtUtil, never()).getUsername(anyString());
+        verify(verifiedTokenCache, times(1)).verify(invalidToken);
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("JWT 인증 실패 테스트 - 폐기된 Access Token")
+    void jwtAuthenticationFailureRevokedTokenTest() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        String revokedToken = "revokedAccessToken";
+
+        request.addHeader("access", revokedToken);
+
+        when(verifiedTokenCache.verify(revokedToken)).thenReturn(
+            claims("access", "test@example.com", Role.VISITOR.name()));
+        when(tokenRevocationList.isRevoked("token-1")).thenReturn(true);
+
+        // When
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(response.getContentAsString()).contains("revoked access token");
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("JWT 인증 실패 테스트 - 토큰 세대가 지난 Access Token")
+    void jwtAuthenticationFailureOutdatedEpochTest() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        String oldToken = "oldEpochAccessToken";
+
+        request.addHeader("access", oldToken);
+
+        when(verifiedTokenCache.verify(oldToken)).thenReturn(
+            claims("access", "test@example.com", Role.VISITOR.name()));
+        when(tokenEpochService.isCurrent("test@example.com", 0L)).thenReturn(false);
+
+        // When
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(response.getContentAsString()).contains("revoked access token");
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    private JwtClaims claims(String category, String username, String role) {
+        Date now = new Date();
+        return new JwtClaims(category, username, role, "session-1", "token-1", 0L,
+            new Date(now.getTime() + 60000L), now);
     }
 }
\ No newline at end of file
@@ -1,15 +1,19 @@
 package com.example.resumeandportfolio.filter;
 
+import com.example.resumeandportfolio.exception.CustomException;
+import com.example.resumeandportfolio.exception.ErrorCode;
 import com.example.resumeandportfolio.model.entity.user.CustomUserDetails;
 import com.example.resumeandportfolio.model.entity.user.User;
 import com.example.resumeandportfolio.model.enums.Role;
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -45,6 +49,9 @@ class LoginFilterTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
     @InjectMocks
     private LoginFilter loginFilter;
 
@@ -79,10 +86,13 @@ class LoginFilterTest {
         String accessToken = "accessToken";
         String refreshToken = "refreshToken";
 
-        when(jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR", 600000L)).thenReturn(
+        when(tokenEpochService.issueEpoch("test@example.com")).thenReturn(3L);
+        when(jwtUtil.createJwt(eq("access"), eq("test@example.com"), eq("ROLE_VISITOR"), anyString(),
+            eq(3L), eq(600000L))).thenReturn(
             accessToken);
         when(
-            jwtUtil.createJwt("refresh", "test@example.com", "ROLE_VISITOR", 86400000L)).thenReturn(
+            jwtUtil.createJwt(eq("refresh"), eq("test@example.com"), eq("ROLE_VISITOR"), anyString(),
+                eq(3L), eq(86400000L))).thenReturn(
             refreshToken);
 
         // When
@@ -95,8 +105,14 @@ class LoginFilterTest {
         assertThat(response.getCookies()).anyMatch(
             cookie -> "refresh".equals(cookie.getName()) && refreshToken.equals(cookie.getValue()));
 
-        verify(refreshTokenService, times(1)).saveRefreshToken("test@example.com", refreshToken,
-            86400L);
+        // Access, Refresh 토큰과 저장된 세션이 같은 세션 ID를 사용
+        ArgumentCaptor<String> sessionId = ArgumentCaptor.forClass(String.class);
+        verify(refreshTokenService, times(1)).saveRefreshToken(eq("test@example.com"),
+            sessionId.capture(), eq(refreshToken), eq(86400L));
+        verify(jwtUtil).createJwt("access", "test@example.com", "ROLE_VISITOR",
+            sessionId.getValue(), 3L, 600000L);
+        verify(jwtUtil).createJwt("refresh", "test@example.com", "ROLE_VISITOR",
+            sessionId.getValue(), 3L, 86400000L);
     }
 
     @Test
@@ -154,4 +170,28 @@ class LoginFilterTest {
 
         verifyNoInteractions(jwtUtil, refreshTokenService);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로그인 실패 테스트 - 비밀번호 해시 풀 포화 시 503")
+    void unsuccessfulLoginTest_PasswordHashingBusy() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        request.setParameter("username", "test@example.com");
+        request.setParameter("password", "password123");
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+            .thenThrow(new CustomException(ErrorCode.PASSWORD_HASHING_BUSY));
+
+        // When
+        Authentication result = loginFilter.attemptAuthentication(request, response);
+
+        // Then
+        assertThat(result).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(response.getContentAsString()).contains("PASSWORD_HASHING_BUSY");
+
+        verifyNoInteractions(jwtUtil, refreshTokenService);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.resumeandportfolio.filter;
+
+import com.example.resumeandportfolio.config.RateLimitProperties;
+import com.example.resumeandportfolio.util.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Rate Limit Filter Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class RateLimitFilterTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private RateLimitProperties properties;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        properties = new RateLimitProperties();
+        rateLimitFilter = new RateLimitFilter(rateLimiter, properties, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트 - 제한을 넘으면 429와 Retry-After 응답")
+    void rejectWithRetryAfter() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.addParameter("username", "user@example.com");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        when(rateLimiter.acquire(eq("login"), any(), eq("10.0.0.1"), eq("user@example.com")))
+            .thenReturn(1500L);
+
+        // When
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("TOO_MANY_REQUESTS");
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트 - JSON 본문의 email로 제한하고 본문은 그대로 전달")
+    void extractEmailFromJsonBody() throws Exception {
+        // Given
+        String body = "{\"email\":\"user@example.com\"}";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST",
+            "/api/users/reset-password/request");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        when(rateLimiter.acquire(any(), any(), any(), any())).thenReturn(0L);
+
+        // When
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // Then
+        verify(rateLimiter).acquire(eq("reset-password"), eq(properties.getResetPassword()),
+            eq("10.0.0.1"), eq("user@example.com"));
+        assertThat(new String(filterChain.getRequest().getInputStream().readAllBytes(),
+            StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트 - 감싼 요청 본문을 ReadListener로 읽을 수 있음")
+    void readListenerReceivesCachedBody() throws Exception {
+        // Given
+        String body = "{\"email\":\"user@example.com\"}";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        when(rateLimiter.acquire(any(), any(), any(), any())).thenReturn(0L);
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        ServletInputStream inputStream = filterChain.getRequest().getInputStream();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        boolean[] allDataRead = new boolean[1];
+
+        // When
+        inputStream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[8];
+                int read;
+                while (inputStream.isReady() && (read = inputStream.read(buffer)) != -1) {
+                    received.write(buffer, 0, read);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead[0] = true;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        });
+
+        // Then
+        assertThat(received.toString(StandardCharsets.UTF_8)).isEqualTo(body);
+        assertThat(allDataRead[0]).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트 - 제한 대상이 아닌 경로는 그대로 통과")
+    void passThroughOtherPaths() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // When
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // Then
+        assertThat(filterChain.getRequest()).isSameAs(request);
+        verifyNoInteractions(rateLimiter);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.resumeandportfolio.repository.token;
+
+import com.example.resumeandportfolio.util.jwt.TokenDigest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * In-Memory Refresh Token Store Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class InMemoryRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    @Override
+    protected RefreshTokenStore createStore() {
+        return new InMemoryRefreshTokenStore();
+    }
+
+    @Test
+    @DisplayName("타이밍 휠 테스트 - 만료 시각이 지난 세션만 정리")
+    void expireUpTo_shouldRemoveExpiredSessions() {
+        // Given
+        InMemoryRefreshTokenStore memoryStore = (InMemoryRefreshTokenStore) store;
+        memoryStore.save(username, "session-1", TokenDigest.sha256("a"), NOW + 2, NOW, 5);
+        memoryStore.save(username, "session-2", TokenDigest.sha256("b"), NOW + 5000, NOW, 5);
+
+        // When
+        memoryStore.expireUpTo(NOW + 3);
+
+        // Then
+        assertThat(memoryStore.sessionCount()).isEqualTo(1);
+        assertThat(memoryStore.findDigest(username, "session-2", NOW + 3)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("타이밍 휠 테스트 - 교체된 세션은 이전 만료 시각에 정리하지 않음")
+    void expireUpTo_shouldKeepRotatedSession() {
+        // Given
+        InMemoryRefreshTokenStore memoryStore = (InMemoryRefreshTokenStore) store;
+        memoryStore.save(username, "session-1", TokenDigest.sha256("a"), NOW + 2, NOW, 5);
+        memoryStore.rotate(username, "session-1", TokenDigest.sha256("a"),
+            TokenDigest.sha256("b"), NOW + 60, NOW + 1);
+
+        // When
+        memoryStore.expireUpTo(NOW + 3);
+
+        // Then
+        assertThat(memoryStore.sessionCount()).isEqualTo(1);
+
+        // When
+        memoryStore.expireUpTo(NOW + 60);
+
+        // Then
+        assertThat(memoryStore.sessionCount()).isZero();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.resumeandportfolio.repository.token;
+
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * JDBC Refresh Token Store Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class JdbcRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    private static final DataSource DATA_SOURCE = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .generateUniqueName(true)
+        .build();
+
+    @Override
+    protected RefreshTokenStore createStore() {
+        // refresh_tokens 테이블은 운영과 같은 마이그레이션으로 생성
+        Flyway.configure().dataSource(DATA_SOURCE).load().migrate();
+        return new JdbcRefreshTokenStore(new JdbcTemplate(DATA_SOURCE),
+            new DataSourceTransactionManager(DATA_SOURCE));
+    }
+}
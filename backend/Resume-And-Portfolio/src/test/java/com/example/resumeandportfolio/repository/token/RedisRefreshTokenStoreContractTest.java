@@ -0,0 +1,53 @@
+package com.example.resumeandportfolio.repository.token;
+
+import org.junit.jupiter.api.AfterAll;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Redis Refresh Token Store Contract Test
+ *
+ * localhost:6379 에 Redis가 실행 중일 때만 실행 (없으면 건너뜀)
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class RedisRefreshTokenStoreContractTest extends RefreshTokenStoreContractTest {
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    @Override
+    protected RefreshTokenStore createStore() {
+        if (connectionFactory == null) {
+            connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", 6379));
+            connectionFactory.afterPropertiesSet();
+        }
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        assumeTrue(isAvailable(redisTemplate), "Redis is not running on localhost:6379");
+
+        return new RedisRefreshTokenStore(redisTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+            connectionFactory = null;
+        }
+    }
+
+    private boolean isAvailable(StringRedisTemplate redisTemplate) {
+        try {
+            redisTemplate.hasKey("refresh-sessions:ping");
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.resumeandportfolio.repository.token;
+
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
+import com.example.resumeandportfolio.util.jwt.TokenDigest;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis Refresh Token Store Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class RedisRefreshTokenStoreTest {
+
+    private static final String USERNAME = "user@example.com";
+    private static final String KEY = "refresh-sessions:" + USERNAME;
+    private static final long NOW = 1_700_000_000L;
+    private static final String DIGEST = TokenDigest.sha256("sampleRefreshToken");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @InjectMocks
+    private RedisRefreshTokenStore redisRefreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("세션 저장 테스트 - 세션 Hash에 만료 시각과 다이제스트 저장")
+    void save_shouldStoreDigestInSessionHash() {
+        // When
+        redisRefreshTokenStore.save(USERNAME, "session-1", DIGEST, NOW + 3600, NOW, 5);
+
+        // Then
+        ArgumentCaptor<String> value = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(KEY)),
+            eq("session-1"), value.capture(), eq(String.valueOf(NOW)), eq("3600"), eq("5"));
+
+        String[] parts = value.getValue().split(":");
+        assertThat(Long.parseLong(parts[0], 36)).isEqualTo(NOW + 3600);
+        assertThat(parts[1]).isEqualTo(DIGEST);
+    }
+
+    @Test
+    @DisplayName("다이제스트 조회 테스트 - 만료되지 않은 세션만 반환")
+    void findDigest_shouldIgnoreExpiredSession() {
+        // Given
+        when(hashOperations.get(KEY, "session-1")).thenReturn(
+            Long.toString(NOW + 60, 36) + ":" + DIGEST);
+
+        // When & Then
+        assertThat(redisRefreshTokenStore.findDigest(USERNAME, "session-1", NOW))
+            .isEqualTo(DIGEST);
+        assertThat(redisRefreshTokenStore.findDigest(USERNAME, "session-1", NOW + 60)).isNull();
+        assertThat(redisRefreshTokenStore.findDigest(USERNAME, "session-2", NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("세션 삭제 테스트 - 세션 하나만 삭제")
+    void delete_shouldRemoveOneSession() {
+        // When
+        redisRefreshTokenStore.delete(USERNAME, "session-1");
+
+        // Then
+        verify(hashOperations).delete(KEY, "session-1");
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("세션 전체 삭제 테스트 - 세션 Hash 삭제")
+    void deleteAll_shouldRemoveSessionHash() {
+        // When
+        redisRefreshTokenStore.deleteAll(USERNAME);
+
+        // Then
+        verify(redisTemplate).delete(KEY);
+    }
+
+    @Test
+    @DisplayName("세션 교체 테스트 - 스크립트 결과를 교체 결과로 변환")
+    void rotate_shouldMapScriptResult() {
+        // Given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(KEY)),
+            eq("session-1"), eq(DIGEST), any(), eq(String.valueOf(NOW)), eq("86400")))
+            .thenReturn(1L, -1L, 0L);
+
+        // When & Then
+        assertThat(redisRefreshTokenStore.rotate(USERNAME, "session-1", DIGEST, "new", NOW + 86400,
+            NOW)).isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(redisRefreshTokenStore.rotate(USERNAME, "session-1", DIGEST, "new", NOW + 86400,
+            NOW)).isEqualTo(RefreshTokenRotationResult.STALE);
+        assertThat(redisRefreshTokenStore.rotate(USERNAME, "session-1", DIGEST, "new", NOW + 86400,
+            NOW)).isEqualTo(RefreshTokenRotationResult.NOT_FOUND);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.resumeandportfolio.repository.token;
+
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
+import com.example.resumeandportfolio.util.jwt.TokenDigest;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Refresh Token Store Contract Test
+ *
+ * 모든 RefreshTokenStore 구현체가 같은 동작을 보장하는지 검증
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+abstract class RefreshTokenStoreContractTest {
+
+    protected static final long NOW = System.currentTimeMillis() / 1000;
+    private static final String DIGEST = TokenDigest.sha256("refreshToken");
+    private static final String NEW_DIGEST = TokenDigest.sha256("newRefreshToken");
+
+    protected RefreshTokenStore store;
+    protected String username;
+
+    // 테스트마다 사용할 저장소 생성
+    protected abstract RefreshTokenStore createStore() throws Exception;
+
+    @BeforeEach
+    void setUpStore() throws Exception {
+        store = createStore();
+        username = "user-" + UUID.randomUUID() + "@example.com";
+    }
+
+    @Test
+    @DisplayName("저장소 계약 테스트 - 저장한 다이제스트 조회")
+    void save_shouldBeFoundUntilExpired() {
+        // When
+        store.save(username, "session-1", DIGEST, NOW + 60, NOW, 5);
+
+        // Then
+        assertThat(store.findDigest(username, "session-1", NOW)).isEqualTo(DIGEST);
+        assertThat(store.findDigest(username, "session-1", NOW + 60)).isNull();
+        assertThat(store.findDigest(username, "session-2", NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("저장소 계약 테스트 - 같은 세션에 다시 저장하면 덮어쓰기")
+    void save_shouldOverwriteSameSession() {
+        // Given
+        store.save(username, "session-1", DIGEST, NOW + 60, NOW, 5);
+
+        // When
+        store.save(username, "session-1", NEW_DIGEST, NOW + 120, NOW, 5);
+
+        // Then
+        assertThat(store.findDigest(username, "session-1", NOW + 90)).isEqualTo(NEW_DIGEST);
+    }
+
+    @Test
+    @DisplayName("저장소 계약 테스트 - 최대 세션 수 초과 시 가장 먼저 만료되는 세션 제거")
+    void save_shouldEvictSoonestExpiringSession() {
+        // Given
+        store.save(username, "session-1", DIGEST, NOW + 300, NOW, 2);
+        store.save(username, "session-2", DIGEST, NOW + 100, NOW, 2);
+
+        // When
+        store.save(username, "session-3", DIGEST, NOW + 200, NOW, 2);
+
+        // Then
+        assertThat(store.findDigest(username, "session-1", NOW)).isEqualTo(DIGEST);
+        assertThat(store.findDigest(username, "session-2", NOW)).isNull();
+        assertThat(store.findDigest(username, "session-3", NOW)).isEqualTo(DIGEST);
+    }
+
+    @Test
+    @DisplayName("저장소 계약 테스트 - 만료된 세션은 최대 세션 수에 포함하지 않음")
+    void save_shouldNotCountExpiredSessions() {
+        // Given
+        store.save(username, "session-1", DIGEST, NOW + 300, NOW, 2);
+        store.save(username, "session-2", DIGEST, NOW + 10, NOW, 2);
+
+        // When
+        store.save(username, "session-3", DIGEST, NOW + 300, NOW + 20, 2);
+
+        // Then
+        assertThat(store.findDigest(username, "session-1", NOW + 20)).isEqualTo(DIGEST);
+        assertThat(store.findDigest(username, "session-3", NOW + 20)).isEqualTo(DIGEST);
+    }
+
+    @Test
+    @DisplayName("저장소 계약 테스트 - 일치하는 다이제스트는 교체")
+    void rotate_shouldReplaceMatchingDigest() {
+        // Given
+        store.save(username, "session-1", DIGEST, NOW + 60, NOW, 5);
+
+        // When
+        RefreshTokenRotationResult result = store.rotate(username, "session-1", DIGEST,
+            NEW_DIGEST, NOW + 120, NOW);
+
+        // Then
+        assertThat(result).isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(store.findDigest(username, "session-1", NOW + 90)).isEqualTo(NEW_DIGEST);
+    }
+
+    @Test
+    @DisplayName("저장소 계약 테스트 - 이미 교체된 다이제스트 재사용 시 세션 폐기")
+    void rotate_shouldRevokeSessionOnReuse() {
+        // Given
+        store.save(username, "session-1", DIGEST, NOW + 60, NOW, 5);
+        store.rotate(username, "session-1", DIGEST, NEW_DIGEST, NOW + 120, NOW);
+
+        // When
+        RefreshTokenRotationResult result = store.rotate(username, "session-1", DIGEST,
+            TokenDigest.sha256("attackerToken"), NOW + 120, NOW);
+
+        // Then
+        assertThat(result).isEqualTo(RefreshTokenRotationResult.STALE);
+        assertThat(store.findDigest(username, "session-1", NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("저장소 계약 테스트 - 없거나 만료된 세션은 교체하지 않음")
+    void rotate_shouldReturnNotFoundForMissingOrExpiredSession() {
+        // Given
+        store.save(username, "session-1", DIGEST, NOW + 60, NOW, 5);
+
+        // When & Then
+        assertThat(store.rotate(username, "session-2", DIGEST, NEW_DIGEST, NOW + 120, NOW))
+            .isEqualTo(RefreshTokenRotationResult.NOT_FOUND);
+        assertThat(store.rotate(username, "session-1", DIGEST, NEW_DIGEST, NOW + 120, NOW + 60))
+            .isEqualTo(RefreshTokenRotationResult.NOT_FOUND);
+        assertThat(store.findDigest(username, "session-1", NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("저장소 계약 테스트 - 세션 하나 삭제와 전체 삭제")
+    void delete_shouldRemoveSessions() {
+        // Given
+        store.save(username, "session-1", DIGEST, NOW + 60, NOW, 5);
+        store.save(username, "session-2", DIGEST, NOW + 60, NOW, 5);
+        store.save(username, "session-3", DIGEST, NOW + 60, NOW, 5);
+
+        // When
+        store.delete(username, "session-1");
+
+        // Then
+        assertThat(store.findDigest(username, "session-1", NOW)).isNull();
+        assertThat(store.findDigest(username, "session-2", NOW)).isEqualTo(DIGEST);
+
+        // When
+        store.deleteAll(username);
+
+        // Then
+        assertThat(store.findDigest(username, "session-2", NOW)).isNull();
+        assertThat(store.findDigest(username, "session-3", NOW)).isNull();
+    }
+}
@@ -1,13 +1,22 @@
 package com.example.resumeandportfolio.repository.user;
 
+import com.example.resumeandportfolio.config.JpaConfig;
+import com.example.resumeandportfolio.model.dto.user.UserCredentialsView;
+import com.example.resumeandportfolio.model.dto.user.UserProfileView;
 import com.example.resumeandportfolio.model.entity.user.User;
 import com.example.resumeandportfolio.model.enums.Role;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,13 +28,17 @@ import static org.assertj.core.api.Assertions.assertThat;
  * @version 1.0
  */
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
+@Import(JpaConfig.class)
 public class UserRepositoryTest {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @DisplayName("이메일로 사용자 찾기 - 성공")
     void findByEmailSuccess() {
@@ -127,4 +140,90 @@ public class UserRepositoryTest {
         // Then: 결과 검증
         assertThat(result).isNotPresent();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이메일로 사용자 정보 프로젝션 조회 - 성공")
+    void findProfileByEmailSuccess() {
+        // Given: 테스트 데이터 삽입
+        userRepository.save(User.builder()
+            .email("profile@example.com")
+            .password("encoded_password")
+            .nickname("ProfileUser")
+            .role(Role.VISITOR)
+            .build());
+
+        // When: 프로젝션 조회
+        Optional<UserProfileView> result = userRepository.findProfileByEmail(
+            "profile@example.com");
+
+        // Then: 결과 검증
+        assertThat(result).contains(
+            new UserProfileView("profile@example.com", "ProfileUser", Role.VISITOR));
+    }
+
+    @Test
+    @DisplayName("이메일로 인증 정보 프로젝션 조회 - 실패 (삭제된 사용자)")
+    void findCredentialsByEmailDeletedUser() {
+        // Given: 활성 사용자와 삭제된 사용자 삽입
+        userRepository.save(User.builder()
+            .email("credentials@example.com")
+            .password("encoded_password")
+            .nickname("Credentials")
+            .role(Role.ADMIN)
+            .build());
+        User deleted = User.builder()
+            .email("gone@example.com")
+            .password("encoded_password")
+            .nickname("Gone")
+            .role(Role.VISITOR)
+            .build();
+        deleted.delete();
+        userRepository.save(deleted);
+
+        // When & Then: 삭제된 사용자는 조회되지 않음
+        assertThat(userRepository.findCredentialsByEmail("credentials@example.com")).contains(
+            new UserCredentialsView("credentials@example.com", "encoded_password", Role.ADMIN));
+        assertThat(userRepository.findCredentialsByEmail("gone@example.com")).isNotPresent();
+    }
+
+    @Test
+    @DisplayName("사용자 저장 - INSERT 전에 시간순 ID 할당")
+    void saveAssignsTimeSortedIds() {
+        // Given: 여러 사용자
+        List<User> users = List.of(
+            User.builder().email("first@example.com").password("encoded_password")
+                .nickname("First").role(Role.VISITOR).build(),
+            User.builder().email("second@example.com").password("encoded_password")
+                .nickname("Second").role(Role.VISITOR).build());
+
+        // When: 한 번에 저장
+        List<User> saved = userRepository.saveAll(users);
+        userRepository.flush();
+
+        // Then: 저장 순서대로 증가하는 ID
+        assertThat(saved.get(0).getUserId()).isNotNull();
+        assertThat(saved.get(1).getUserId()).isGreaterThan(saved.get(0).getUserId());
+        assertThat(userRepository.findById(saved.get(1).getUserId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("사용자 저장 - 여러 사용자의 INSERT를 JDBC 배치로 실행")
+    void saveAllBatchesInserts() {
+        // Given: 배치 크기(50)보다 많은 사용자
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            users.add(User.builder().email("bulk" + i + "@example.com")
+                .password("encoded_password").nickname("Bulk" + i).role(Role.VISITOR).build());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When: 한 번에 저장
+        userRepository.saveAll(users);
+        userRepository.flush();
+
+        // Then: 행마다 문장을 실행하지 않음 (IDENTITY는 행마다 INSERT 후 생성 키 조회, 여기서는 최대 3번의 배치)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.resumeandportfolio.service.mail;
+
+import com.example.resumeandportfolio.config.JpaConfig;
+import com.example.resumeandportfolio.model.entity.mail.MailOutbox;
+import com.example.resumeandportfolio.model.enums.MailOutboxStatus;
+import com.example.resumeandportfolio.model.enums.MailType;
+import com.example.resumeandportfolio.repository.mail.MailOutboxRepository;
+import com.example.resumeandportfolio.util.mail.MailTemplateRegistry;
+import com.example.resumeandportfolio.util.mail.MailUtil;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.BodyPart;
+import jakarta.mail.Multipart;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Mail Delivery Worker Test
+ *
+ * 로컬 SMTP 서버(GreenMail)로 실제 발송 경로를 검증
+ * 작업 스레드가 커밋된 데이터를 보도록 테스트 트랜잭션은 사용하지 않음
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MailDeliveryWorkerTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    private MailOutboxService mailOutboxService;
+    private MailDeliveryWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        MailUtil mailUtil = new MailUtil(mailSender,
+            new MailTemplateRegistry("", new String[]{"ko", "en"}, "ko"));
+        ReflectionTestUtils.setField(mailUtil, "fromAddress", "noreply@example.com");
+        ReflectionTestUtils.setField(mailUtil, "serverUrl", "http://localhost:8080");
+
+        mailOutboxService = new MailOutboxService(mailOutboxRepository);
+        worker = new MailDeliveryWorker(mailOutboxRepository, mailUtil, new SimpleMeterRegistry(),
+            2, 10, 20, 2, 0L, 0L, 60000L, 24);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.shutdown();
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("메일 발송 테스트 - outbox에 기록된 메일을 발송하고 삭제")
+    void deliverTest() {
+        // Given
+        mailOutboxService.enqueue(MailType.VERIFICATION, "user@example.com", "token-1");
+        mailOutboxService.enqueue(MailType.PASSWORD_RESET, "user@example.com", "token-2");
+
+        // When
+        worker.poll();
+
+        // Then
+        await().atMost(Duration.ofSeconds(10))
+            .until(() -> mailOutboxRepository.count() == 0);
+        MimeMessage[] messages = greenMail.getReceivedMessages();
+        assertThat(messages).hasSize(2);
+        assertThat(messages).extracting(message -> content(message, "text/plain"))
+            .anySatisfy(body -> assertThat(body).contains("/api/users/verify?token=token-1"))
+            .anySatisfy(body -> assertThat(body)
+                .contains("/api/users/reset-password?token=token-2"));
+        assertThat(messages).extracting(message -> content(message, "text/html"))
+            .allSatisfy(body -> assertThat(body).contains("<a href="));
+    }
+
+    @Test
+    @DisplayName("메일 발송 실패 테스트 - 재시도 예약 후 최대 시도 횟수를 넘으면 DEAD")
+    void retryAndDeadLetterTest() {
+        // Given
+        greenMail.stop();
+        mailOutboxService.enqueue(MailType.VERIFICATION, "user@example.com", "token-1");
+
+        // When
+        worker.poll();
+        await().atMost(Duration.ofSeconds(10)).until(() -> status() == MailOutboxStatus.PENDING);
+        MailOutbox retried = mailOutboxRepository.findAll().get(0);
+        worker.poll();
+
+        // Then
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getLastError()).isNotBlank();
+        await().atMost(Duration.ofSeconds(10)).until(() -> status() == MailOutboxStatus.DEAD);
+        assertThat(mailOutboxRepository.findAll().get(0).getAttempts()).isEqualTo(2);
+        assertThat(mailOutboxRepository.findAll().get(0).getToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("메일 발송 거부 테스트 - 작업 큐가 받지 않은 메일은 시도 횟수 없이 대기 상태로")
+    void rejectedBatchIsUnclaimedTest() throws InterruptedException {
+        // Given
+        mailOutboxService.enqueue(MailType.VERIFICATION, "user@example.com", "token-1");
+        worker.shutdown();
+
+        // When
+        worker.poll();
+
+        // Then
+        MailOutbox mail = mailOutboxRepository.findAll().get(0);
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(mail.getAttempts()).isZero();
+        assertThat(mail.getToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    @DisplayName("DEAD 메일 정리 테스트 - 토큰 만료 시각이 지난 DEAD 메일만 삭제")
+    void purgeDeadTest() {
+        // Given
+        mailOutboxService.enqueue(MailType.VERIFICATION, "dead@example.com", "token-1");
+        mailOutboxService.enqueue(MailType.VERIFICATION, "pending@example.com", "token-2");
+        Long deadId = mailOutboxRepository.findAll().stream()
+            .filter(mail -> mail.getRecipient().equals("dead@example.com"))
+            .findFirst().orElseThrow().getMailId();
+        mailOutboxRepository.bury(deadId, MailOutboxStatus.DEAD, LocalDateTime.now(), "error");
+
+        // When
+        int kept = mailOutboxRepository.purgeDead(MailOutboxStatus.DEAD,
+            LocalDateTime.now().minusHours(1));
+        int purged = mailOutboxRepository.purgeDead(MailOutboxStatus.DEAD,
+            LocalDateTime.now().plusMinutes(1));
+
+        // Then
+        assertThat(kept).isZero();
+        assertThat(purged).isEqualTo(1);
+        assertThat(mailOutboxRepository.findAll()).extracting(MailOutbox::getRecipient)
+            .containsExactly("pending@example.com");
+    }
+
+    @Test
+    @DisplayName("메일 점유 테스트 - 이미 점유된 메일은 다른 노드가 점유하지 못함")
+    void claimOnceTest() {
+        // Given
+        mailOutboxService.enqueue(MailType.VERIFICATION, "user@example.com", "token-1");
+        Long mailId = mailOutboxRepository.findAll().get(0).getMailId();
+        LocalDateTime now = LocalDateTime.now();
+        Set<MailOutboxStatus> claimable =
+            EnumSet.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING);
+
+        // When
+        int first = mailOutboxRepository.claim(mailId, claimable, MailOutboxStatus.SENDING, now,
+            now.plusMinutes(2));
+        int second = mailOutboxRepository.claim(mailId, claimable, MailOutboxStatus.SENDING, now,
+            now.plusMinutes(2));
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+    }
+
+    // multipart 메일에서 해당 형식의 본문을 찾아 반환
+    private static String content(MimeMessage message, String mimeType) {
+        try {
+            return content(message.getContent(), mimeType);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String content(Object content, String mimeType) throws Exception {
+        if (content instanceof Multipart multipart) {
+            for (int i = 0; i < multipart.getCount(); i++) {
+                BodyPart part = multipart.getBodyPart(i);
+                String found = part.isMimeType(mimeType) ? (String) part.getContent()
+                    : content(part.getContent(), mimeType);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private MailOutboxStatus status() {
+        return mailOutboxRepository.findAll().get(0).getStatus();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.resumeandportfolio.service.user;
 
 import com.example.resumeandportfolio.exception.CustomException;
 import com.example.resumeandportfolio.exception.ErrorCode;
+import com.example.resumeandportfolio.model.dto.user.UserCredentialsView;
 import com.example.resumeandportfolio.model.entity.user.User;
 import com.example.resumeandportfolio.model.enums.Role;
 import com.example.resumeandportfolio.repository.user.UserRepository;
@@ -35,6 +36,7 @@ class CustomUserDetailsServiceTest {
     private CustomUserDetailsService customUserDetailsService;
 
     private User testUser;
+    private UserCredentialsView credentials;
 
     @BeforeEach
     void setUp() {
@@ -45,6 +47,8 @@ class CustomUserDetailsServiceTest {
             .nickname("Tester")
             .role(Role.VISITOR)
             .build();
+        credentials = new UserCredentialsView(testUser.getEmail(), testUser.getPassword(),
+            testUser.getRole());
     }
 
     @Test
@@ -52,8 +56,8 @@ class CustomUserDetailsServiceTest {
     void loadUserByUsername_success() {
         // Given
         String email = "test@example.com";
-        when(userRepository.findByEmailAndDeletedAtIsNull(email))
-            .thenReturn(Optional.of(testUser));
+        when(userRepository.findCredentialsByEmail(email))
+            .thenReturn(Optional.of(credentials));
 
         // When
         UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
@@ -67,7 +71,8 @@ class CustomUserDetailsServiceTest {
             Role.VISITOR.name());
 
         // Verify
-        verify(userRepository, times(1)).findByEmailAndDeletedAtIsNull(email);
+        verify(userRepository, times(1)).findCredentialsByEmail(email);
+        verify(userRepository, never()).findByEmailAndDeletedAtIsNull(email);
     }
 
     @Test
@@ -75,7 +80,7 @@ class CustomUserDetailsServiceTest {
     void loadUserByUsername_userNotFound() {
         // Given
         String email = "notfound@example.com";
-        when(userRepository.findByEmailAndDeletedAtIsNull(email))
+        when(userRepository.findCredentialsByEmail(email))
             .thenReturn(Optional.empty());
 
         // When & Then
@@ -86,6 +91,27 @@ class CustomUserDetailsServiceTest {
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
 
         // Verify
-        verify(userRepository, times(1)).findByEmailAndDeletedAtIsNull(email);
+        verify(userRepository, times(1)).findCredentialsByEmail(email);
+    }
+
+    @Test
+    @DisplayName("비밀번호 재해시 테스트 - 새 해시로 사용자 비밀번호 갱신")
+    void updatePassword_success() {
+        // Given
+        String email = "test@example.com";
+        when(userRepository.findCredentialsByEmail(email))
+            .thenReturn(Optional.of(credentials));
+        when(userRepository.findByEmailAndDeletedAtIsNull(email))
+            .thenReturn(Optional.of(testUser));
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
+
+        // When
+        UserDetails updated = customUserDetailsService.updatePassword(userDetails,
+            "{bcrypt}new_hash");
+
+        // Then
+        assertThat(updated.getPassword()).isEqualTo("{bcrypt}new_hash");
+        assertThat(updated.getUsername()).isEqualTo(email);
+        assertThat(testUser.getPassword()).isEqualTo("{bcrypt}new_hash");
     }
-}
\ No newline at end of file
+}
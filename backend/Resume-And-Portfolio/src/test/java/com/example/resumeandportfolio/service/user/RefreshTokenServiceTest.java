@@ -1,19 +1,22 @@
 package com.example.resumeandportfolio.service.user;
 
+import com.example.resumeandportfolio.model.enums.RefreshTokenRotationResult;
+import com.example.resumeandportfolio.repository.token.RefreshTokenStore;
+import com.example.resumeandportfolio.util.jwt.TokenDigest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * Refresh Token Service Test
  *
@@ -23,11 +26,10 @@ import java.util.concurrent.TimeUnit;
 
 class RefreshTokenServiceTest {
 
-    @Mock
-    private StringRedisTemplate redisTemplate;
+    private static final String USERNAME = "user@example.com";
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private RefreshTokenStore refreshTokenStore;
 
     @InjectMocks
     private RefreshTokenService refreshTokenService;
@@ -35,52 +37,84 @@ class RefreshTokenServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        ReflectionTestUtils.setField(refreshTokenService, "maxSessions", 5);
     }
 
     @Test
-    @DisplayName("Refresh Token 저장 테스트 - Redis에 성공적으로 저장")
-    void saveRefreshToken_shouldStoreTokenInRedis() {
+    @DisplayName("Refresh Token 저장 테스트 - 토큰 원문 대신 다이제스트와 만료 시각 저장")
+    void saveRefreshToken_shouldStoreDigest() {
         // Given
-        String username = "user@example.com";
-        String refreshToken = "sampleRefreshToken";
         long duration = 3600L;
+        long before = System.currentTimeMillis() / 1000;
 
         // When
-        refreshTokenService.saveRefreshToken(username, refreshToken, duration);
+        refreshTokenService.saveRefreshToken(USERNAME, "session-1", "sampleRefreshToken", duration);
 
         // Then
-        verify(valueOperations).set("refresh:" + username, refreshToken, duration,
-            TimeUnit.SECONDS);
+        ArgumentCaptor<Long> expiresAt = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Long> now = ArgumentCaptor.forClass(Long.class);
+        verify(refreshTokenStore).save(eq(USERNAME), eq("session-1"),
+            eq(TokenDigest.sha256("sampleRefreshToken")), expiresAt.capture(), now.capture(),
+            eq(5));
+
+        assertThat(now.getValue()).isBetween(before, before + 1);
+        assertThat(expiresAt.getValue()).isEqualTo(now.getValue() + duration);
     }
 
     @Test
-    @DisplayName("Refresh Token 조회 테스트 - Redis에서 성공적으로 조회")
-    void getRefreshToken_shouldRetrieveTokenFromRedis() {
+    @DisplayName("Refresh Token 비교 테스트 - 다이제스트가 일치")
+    void matchesRefreshToken_shouldCompareDigest() {
         // Given
-        String username = "user@example.com";
-        String refreshToken = "sampleRefreshToken";
+        when(refreshTokenStore.findDigest(eq(USERNAME), eq("session-1"), anyLong()))
+            .thenReturn(TokenDigest.sha256("sampleRefreshToken"));
+
+        // When & Then
+        assertThat(refreshTokenService.matchesRefreshToken(USERNAME, "session-1",
+            "sampleRefreshToken")).isTrue();
+        assertThat(refreshTokenService.matchesRefreshToken(USERNAME, "session-1",
+            "otherRefreshToken")).isFalse();
+    }
 
-        when(valueOperations.get("refresh:" + username)).thenReturn(refreshToken);
+    @Test
+    @DisplayName("Refresh Token 비교 테스트 - 세션이 없으면 불일치")
+    void matchesRefreshToken_shouldRejectMissingSession() {
+        // Given
+        when(refreshTokenStore.findDigest(eq(USERNAME), eq("session-1"), anyLong()))
+            .thenReturn(null);
 
         // When
-        String result = refreshTokenService.getRefreshToken(username);
+        boolean result = refreshTokenService.matchesRefreshToken(USERNAME, "session-1",
+            "sampleRefreshToken");
+
+        // Then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("Refresh Token 삭제 테스트 - 세션 하나와 전체 삭제 위임")
+    void deleteRefreshToken_shouldDelegateToStore() {
+        // When
+        refreshTokenService.deleteRefreshToken(USERNAME, "session-1");
+        refreshTokenService.deleteAllRefreshTokens(USERNAME);
 
         // Then
-        assertThat(result).isEqualTo(refreshToken);
-        verify(valueOperations).get("refresh:" + username);
+        verify(refreshTokenStore).delete(USERNAME, "session-1");
+        verify(refreshTokenStore).deleteAll(USERNAME);
     }
 
     @Test
-    @DisplayName("Refresh Token 삭제 테스트 - Redis에서 성공적으로 삭제")
-    void deleteRefreshToken_shouldRemoveTokenFromRedis() {
+    @DisplayName("Refresh Token 교체 테스트 - 제시된 토큰과 새 토큰의 다이제스트로 교체")
+    void rotateRefreshToken_shouldPassDigests() {
         // Given
-        String username = "user@example.com";
+        when(refreshTokenStore.rotate(eq(USERNAME), eq("session-1"),
+            eq(TokenDigest.sha256("oldToken")), eq(TokenDigest.sha256("newToken")), anyLong(),
+            anyLong())).thenReturn(RefreshTokenRotationResult.ROTATED);
 
         // When
-        refreshTokenService.deleteRefreshToken(username);
+        RefreshTokenRotationResult result = refreshTokenService.rotateRefreshToken(USERNAME,
+            "session-1", "oldToken", "newToken", 86400L);
 
         // Then
-        verify(redisTemplate).delete("refresh:" + username);
+        assertThat(result).isEqualTo(RefreshTokenRotationResult.ROTATED);
     }
-}
\ No newline at end of file
+}
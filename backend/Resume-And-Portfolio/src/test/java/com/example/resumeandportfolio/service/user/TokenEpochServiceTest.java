@@ -0,0 +1,127 @@
+package com.example.resumeandportfolio.service.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Token Epoch Service Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class TokenEpochServiceTest {
+
+    private static final String USERNAME = "user@example.com";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenEpochService tokenEpochService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        tokenEpochService = new TokenEpochService(redisTemplate, listenerContainer,
+            new SimpleMeterRegistry(), 100L, 600000L);
+    }
+
+    @Test
+    @DisplayName("토큰 세대 테스트 - 세대가 없는 사용자는 0, 이후 확인은 로컬 캐시 사용")
+    void isCurrentLoadsOnceIntoLocalCache() {
+        // Given
+        when(valueOperations.get("token-epoch:" + USERNAME)).thenReturn(null);
+
+        // When & Then
+        assertThat(tokenEpochService.isCurrent(USERNAME, 0L)).isTrue();
+        assertThat(tokenEpochService.isCurrent(USERNAME, 0L)).isTrue();
+        verify(valueOperations, times(1)).get("token-epoch:" + USERNAME);
+        verify(listenerContainer).addMessageListener(eq(tokenEpochService), any(Topic.class));
+    }
+
+    @Test
+    @DisplayName("토큰 세대 테스트 - 세대를 올리면 이전 세대 토큰은 무효, 다른 노드에 전파")
+    void bumpEpochInvalidatesOlderTokens() {
+        // Given
+        when(valueOperations.increment("token-epoch:" + USERNAME)).thenReturn(1L);
+
+        // When
+        long epoch = tokenEpochService.bumpEpoch(USERNAME);
+
+        // Then
+        assertThat(epoch).isEqualTo(1L);
+        assertThat(tokenEpochService.isCurrent(USERNAME, 0L)).isFalse();
+        assertThat(tokenEpochService.isCurrent(USERNAME, 1L)).isTrue();
+        verify(redisTemplate).convertAndSend("token-epochs", USERNAME + ":1");
+        verify(valueOperations, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("토큰 세대 테스트 - 다른 노드의 세대 변경 메시지 반영 (감소는 무시)")
+    void onMessageAppliesHigherEpoch() {
+        // Given
+        when(valueOperations.get("token-epoch:" + USERNAME)).thenReturn("1");
+        tokenEpochService.isCurrent(USERNAME, 1L);
+
+        // When
+        tokenEpochService.onMessage(message(USERNAME + ":3"), null);
+        tokenEpochService.onMessage(message(USERNAME + ":2"), null);
+
+        // Then
+        assertThat(tokenEpochService.isCurrent(USERNAME, 2L)).isFalse();
+        assertThat(tokenEpochService.isCurrent(USERNAME, 3L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 세대 테스트 - 발급 시에는 Redis의 최신 세대 사용")
+    void issueEpochReadsLatestValue() {
+        // Given
+        when(valueOperations.get("token-epoch:" + USERNAME)).thenReturn("0", "4");
+        tokenEpochService.isCurrent(USERNAME, 0L);
+
+        // When
+        long epoch = tokenEpochService.issueEpoch(USERNAME);
+
+        // Then
+        assertThat(epoch).isEqualTo(4L);
+        assertThat(tokenEpochService.isCurrent(USERNAME, 0L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 세대 테스트 - Redis에 연결할 수 없으면 통과")
+    void isCurrentFailsOpenWhenRedisUnavailable() {
+        // Given
+        when(valueOperations.get("token-epoch:" + USERNAME))
+            .thenThrow(new IllegalStateException("connection refused"));
+
+        // When & Then
+        assertThat(tokenEpochService.isCurrent(USERNAME, 0L)).isTrue();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("token-epochs".getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
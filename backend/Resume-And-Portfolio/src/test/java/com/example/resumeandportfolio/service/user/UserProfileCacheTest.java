@@ -0,0 +1,186 @@
+package com.example.resumeandportfolio.service.user;
+
+import com.example.resumeandportfolio.model.dto.user.UserLoadInfoDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * User Profile Cache Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class UserProfileCacheTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final UserLoadInfoDto PROFILE = new UserLoadInfoDto(EMAIL, "Tester",
+        "VISITOR");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        userProfileCache = new UserProfileCache(redisTemplate, objectMapper, listenerContainer,
+            meterRegistry, 100L, 60000L, 600000L, 10000L);
+    }
+
+    @Test
+    @DisplayName("프로필 캐시 테스트 - 두 단계 모두 없으면 DB에서 읽어 Redis에 저장하고 이후는 로컬 캐시 사용")
+    void getLoadsOnceAndStoresInRedis() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        UserLoadInfoDto first = userProfileCache.get(EMAIL, key -> {
+            loads.incrementAndGet();
+            return PROFILE;
+        });
+        UserLoadInfoDto second = userProfileCache.get(EMAIL, key -> {
+            loads.incrementAndGet();
+            return PROFILE;
+        });
+
+        // Then
+        assertThat(first).isEqualTo(PROFILE);
+        assertThat(second).isEqualTo(PROFILE);
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations, times(1)).get("user-profile:" + EMAIL);
+        verify(valueOperations).setIfAbsent(eq("user-profile:" + EMAIL), anyString(),
+            eq(Duration.ofMinutes(10)));
+        assertThat(meterRegistry.counter("user.profile.cache.redis", "result", "miss").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("프로필 캐시 테스트 - Redis에 있으면 DB를 읽지 않음")
+    void getUsesRedisTier() throws Exception {
+        // Given
+        when(valueOperations.get("user-profile:" + EMAIL))
+            .thenReturn(objectMapper.writeValueAsString(PROFILE));
+
+        // When
+        UserLoadInfoDto profile = userProfileCache.get(EMAIL, key -> {
+            throw new AssertionError("DB를 읽으면 안 됨");
+        });
+
+        // Then
+        assertThat(profile).isEqualTo(PROFILE);
+        assertThat(meterRegistry.counter("user.profile.cache.redis", "result", "hit").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("프로필 캐시 테스트 - Redis 장애 시 DB에서 읽음")
+    void getFallsBackToLoaderWhenRedisFails() {
+        // Given
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("down"));
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+            .thenThrow(new RuntimeException("down"));
+
+        // When
+        UserLoadInfoDto profile = userProfileCache.get(EMAIL, key -> PROFILE);
+
+        // Then
+        assertThat(profile).isEqualTo(PROFILE);
+        assertThat(meterRegistry.counter("user.profile.cache.redis.errors").count())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("프로필 캐시 테스트 - 트랜잭션 안의 삭제는 커밋 후 Redis 삭제 표시와 메시지 발행")
+    void evictRunsAfterCommit() {
+        // Given
+        userProfileCache.get(EMAIL, key -> PROFILE);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            userProfileCache.evict(EMAIL);
+
+            // Then
+            verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(valueOperations).set("user-profile:" + EMAIL, UserProfileCache.TOMBSTONE,
+            Duration.ofSeconds(10));
+        verify(redisTemplate).convertAndSend("user-profiles", EMAIL);
+        AtomicInteger loads = new AtomicInteger();
+        userProfileCache.get(EMAIL, key -> {
+            loads.incrementAndGet();
+            return PROFILE;
+        });
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프로필 캐시 테스트 - 삭제 표시가 있으면 DB에서 읽고, 키가 없을 때만 Redis에 저장")
+    void tombstoneBlocksStaleWrite() {
+        // Given: 커밋 전에 이전 값을 읽은 요청이 저장하기 전에 삭제 표시가 생김
+        when(valueOperations.get("user-profile:" + EMAIL)).thenReturn(UserProfileCache.TOMBSTONE);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+            .thenReturn(false);
+        UserLoadInfoDto updated = new UserLoadInfoDto(EMAIL, "Renamed", "VISITOR");
+
+        // When
+        UserLoadInfoDto profile = userProfileCache.get(EMAIL, key -> updated);
+
+        // Then
+        assertThat(profile).isEqualTo(updated);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        assertThat(meterRegistry.counter("user.profile.cache.redis", "result", "miss").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("프로필 캐시 테스트 - 다른 노드의 삭제 메시지로 로컬 캐시 삭제")
+    void onMessageInvalidatesLocalEntry() {
+        // Given
+        userProfileCache.get(EMAIL, key -> PROFILE);
+        UserLoadInfoDto updated = new UserLoadInfoDto(EMAIL, "Renamed", "VISITOR");
+
+        // When
+        userProfileCache.onMessage(new DefaultMessage("user-profiles".getBytes(
+            StandardCharsets.UTF_8), EMAIL.getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertThat(userProfileCache.get(EMAIL, key -> updated)).isEqualTo(updated);
+    }
+}
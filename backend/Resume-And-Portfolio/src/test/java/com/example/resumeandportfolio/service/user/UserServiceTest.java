@@ -11,11 +11,11 @@ import com.example.resumeandportfolio.model.dto.user.UserUpdateRequest;
 import com.example.resumeandportfolio.model.dto.user.UserUpdateResponse;
 import com.example.resumeandportfolio.model.dto.user.VerificationTokenDto;
 import com.example.resumeandportfolio.model.entity.user.User;
+import com.example.resumeandportfolio.model.enums.MailType;
 import com.example.resumeandportfolio.model.enums.Role;
 import com.example.resumeandportfolio.repository.user.UserRepository;
-import com.example.resumeandportfolio.util.mail.MailUtil;
+import com.example.resumeandportfolio.service.mail.MailOutboxService;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,6 +30,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -56,7 +58,10 @@ public class UserServiceTest {
     private StringRedisTemplate redisTemplate;
 
     @Mock
-    private MailUtil mailUtil;
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private VerificationTokenService verificationTokenService;
 
     @Mock
     private ObjectMapper objectMapper;
@@ -64,6 +69,15 @@ public class UserServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenEpochService tokenEpochService;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -81,6 +95,8 @@ public class UserServiceTest {
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         lenient().when(objectMapper.writeValueAsString(any(VerificationTokenDto.class))).thenReturn("mockedTokenData");
         lenient().when(valueOperations.get(anyString())).thenReturn("mockedTokenData");
+        lenient().when(verificationTokenService.issue(any(MailType.class), anyString(), anyString(),
+            anyString())).thenReturn(true);
 
         ReflectionTestUtils.setField(userService, "expirationHours", 24);
     }
@@ -119,6 +135,30 @@ public class UserServiceTest {
         verify(passwordEncoder, times(1)).matches("raw_password", "encoded_password");
     }
 
+    @Test
+    @DisplayName("로그인 성공 테스트 - 오래된 cost의 해시는 다시 해시해 저장")
+    void loginRehashesStaleEncodingTest() {
+        // Given
+        User testUser = new User(
+            "test@example.com",
+            "old_hash",
+            "Tester",
+            Role.VISITOR
+        );
+
+        when(userRepository.findByEmailAndDeletedAtIsNull("test@example.com"))
+            .thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("raw_password", "old_hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("old_hash")).thenReturn(true);
+        when(passwordEncoder.encode("raw_password")).thenReturn("{bcrypt}new_hash");
+
+        // When
+        userService.login("test@example.com", "raw_password");
+
+        // Then
+        assertEquals("{bcrypt}new_hash", testUser.getPassword());
+    }
+
     @Test
     @DisplayName("로그인 실패 테스트 - 사용자 없음")
     void loginFailureUserNotFoundTest() {
@@ -169,9 +209,10 @@ public class UserServiceTest {
 
         // Then
         verify(userRepository, times(1)).existsByEmail(request.email());
-        verify(valueOperations, times(1))
-            .set(anyString(), anyString(), eq(Duration.ofHours(24)));
-        verify(mailUtil, times(1)).sendVerificationMail(eq(request.email()), anyString());
+        verify(verificationTokenService, times(1)).issue(eq(MailType.VERIFICATION),
+            eq(request.email()), anyString(), eq("mockedTokenData"));
+        verify(mailOutboxService, times(1))
+            .enqueue(eq(MailType.VERIFICATION), eq(request.email()), anyString());
     }
 
     @Test
@@ -202,9 +243,25 @@ public class UserServiceTest {
 
         // Then
         verify(userRepository, times(1)).existsByEmail("resend@example.com");
-        verify(valueOperations, times(1))
-            .set(anyString(), anyString(), eq(Duration.ofHours(24)));
-        verify(mailUtil, times(1)).sendVerificationMail(eq("resend@example.com"), anyString());
+        verify(verificationTokenService, times(1)).issue(eq(MailType.VERIFICATION),
+            eq("resend@example.com"), anyString(), eq("mockedTokenData"));
+        verify(mailOutboxService, times(1))
+            .enqueue(eq(MailType.VERIFICATION), eq("resend@example.com"), anyString());
+    }
+
+    @Test
+    @DisplayName("인증 이메일 재전송 테스트 - 최근 발송한 토큰이 있으면 메일 생략")
+    void resendVerificationEmailCoalescedTest() {
+        // Given
+        when(userRepository.existsByEmail("resend@example.com")).thenReturn(true);
+        when(verificationTokenService.issue(eq(MailType.VERIFICATION), eq("resend@example.com"),
+            anyString(), anyString())).thenReturn(false);
+
+        // When
+        userService.resendVerificationEmail("resend@example.com");
+
+        // Then
+        verifyNoInteractions(mailOutboxService);
     }
 
     @Test
@@ -353,6 +410,8 @@ public class UserServiceTest {
         verify(passwordEncoder, times(1)).matches("current_password", "encoded_password");
         verify(passwordEncoder, times(1)).encode("new_password123");
         verify(userRepository, times(1)).save(any(User.class));
+        verify(tokenEpochService, times(1)).bumpEpoch("test@example.com");
+        verify(refreshTokenService, times(1)).deleteAllRefreshTokens("test@example.com");
     }
 
     @Test
@@ -435,6 +494,41 @@ public class UserServiceTest {
         // Then: 회원 탈퇴가 정상적으로 처리되었는지 검증
         verify(userRepository, times(1)).findByEmailAndDeletedAtIsNull("test@example.com");
         assertNotNull(existingUser.getDeletedAt(), "DeletedAt 필드가 null이 아니어야 합니다.");
+        verify(userProfileCache, times(1)).evict("test@example.com");
+        verify(tokenEpochService, times(1)).bumpEpoch("test@example.com");
+        verify(refreshTokenService, times(1)).deleteAllRefreshTokens("test@example.com");
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 테스트 - 트랜잭션 안에서는 커밋 후에 세션 종료")
+    void deleteUserRevokesSessionsAfterCommitTest() {
+        // Given
+        User existingUser = User.builder()
+            .email("test@example.com")
+            .password("encoded_password")
+            .nickname("Tester")
+            .role(Role.VISITOR)
+            .build();
+        when(userRepository.findByEmailAndDeletedAtIsNull("test@example.com"))
+            .thenReturn(Optional.of(existingUser));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            userService.deleteUser("test@example.com");
+
+            // Then: 커밋 전에는 세대 증가, Refresh 토큰 삭제 없음
+            verifyNoInteractions(tokenEpochService, refreshTokenService);
+
+            // 커밋되면 세션 종료
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(tokenEpochService, times(1)).bumpEpoch("test@example.com");
+        verify(refreshTokenService, times(1)).deleteAllRefreshTokens("test@example.com");
     }
 
     @Test
@@ -490,9 +584,10 @@ public class UserServiceTest {
 
         // Then
         verify(userRepository, times(1)).findByEmailAndDeletedAtIsNull(request.email());
-        verify(valueOperations, times(1))
-            .set(startsWith("password-reset:token:"), anyString(), eq(Duration.ofHours(24)));
-        verify(mailUtil, times(1)).sendPasswordResetMail(eq(request.email()), anyString());
+        verify(verificationTokenService, times(1)).issue(eq(MailType.PASSWORD_RESET),
+            eq(request.email()), anyString(), eq("mockedTokenData"));
+        verify(mailOutboxService, times(1))
+            .enqueue(eq(MailType.PASSWORD_RESET), eq(request.email()), anyString());
     }
 
     @Test
@@ -509,7 +604,7 @@ public class UserServiceTest {
         );
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
         verify(userRepository, times(1)).findByEmailAndDeletedAtIsNull(request.email());
-        verifyNoInteractions(mailUtil);
+        verifyNoInteractions(mailOutboxService);
     }
 
     @Test
@@ -536,6 +631,9 @@ public class UserServiceTest {
         verify(userRepository, times(1)).findByEmailAndDeletedAtIsNull(tokenDto.email());
         verify(passwordEncoder, times(1)).encode(request.newPassword());
         verify(redisTemplate, times(1)).delete("password-reset:token:" + token);
+        verify(tokenEpochService, times(1)).bumpEpoch(testUser.getEmail());
+        verify(refreshTokenService, times(1)).deleteAllRefreshTokens(testUser.getEmail());
+        verify(userProfileCache, times(1)).evict(testUser.getEmail());
     }
 
     @Test
@@ -0,0 +1,85 @@
+package com.example.resumeandportfolio.service.user;
+
+import com.example.resumeandportfolio.model.enums.MailType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verification Token Service Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class VerificationTokenServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerificationTokenService verificationTokenService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        verificationTokenService = new VerificationTokenService(redisTemplate, meterRegistry, 24,
+            60000L);
+    }
+
+    @Test
+    @DisplayName("토큰 발급 테스트 - 이메일별 대기 키와 토큰 키를 한 번에 저장")
+    void issueStoresPendingAndTokenKeys() {
+        // Given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(),
+            any(Object[].class)))
+            .thenReturn(1L);
+
+        // When
+        boolean issued = verificationTokenService.issue(MailType.PASSWORD_RESET, EMAIL, "token-1",
+            "tokenData");
+
+        // Then
+        assertThat(issued).isTrue();
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+            eq(List.of("password-reset:pending:" + EMAIL, "password-reset:token:token-1")),
+            eq("password-reset:token:"), eq("tokenData"), eq("86400000"), eq("60000"),
+            anyString(), eq("token-1"));
+        assertThat(meterRegistry.counter("verification.tokens", "result", "issued").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토큰 발급 테스트 - 최근 발송한 토큰이 있으면 발송 생략")
+    void issueCoalescesWithinWindow() {
+        // Given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(),
+            any(Object[].class)))
+            .thenReturn(0L);
+
+        // When
+        boolean issued = verificationTokenService.issue(MailType.VERIFICATION, EMAIL, "token-2",
+            "tokenData");
+
+        // Then
+        assertThat(issued).isFalse();
+        assertThat(meterRegistry.counter("verification.tokens", "result", "coalesced").count())
+            .isEqualTo(1.0);
+    }
+}
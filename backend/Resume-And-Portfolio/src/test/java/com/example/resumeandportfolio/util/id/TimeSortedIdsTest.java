@@ -0,0 +1,76 @@
+package com.example.resumeandportfolio.util.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Time Sorted Ids Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class TimeSortedIdsTest {
+
+    private static final long NOW = TimeSortedIds.EPOCH_MS + 1_000_000L;
+
+    @Test
+    @DisplayName("ID 생성 테스트 - 같은 ms에서는 순번 증가, 노드 ID 포함")
+    void sameMillisecondIncrementsSequence() {
+        // Given
+        TimeSortedIds ids = new TimeSortedIds(3);
+
+        // When
+        long first = ids.nextId(NOW);
+        long second = ids.nextId(NOW);
+
+        // Then
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(first >> TimeSortedIds.SEQUENCE_BITS & TimeSortedIds.MAX_NODE_ID)
+            .isEqualTo(3L);
+        assertThat(first >> (TimeSortedIds.NODE_BITS + TimeSortedIds.SEQUENCE_BITS))
+            .isEqualTo(1_000_000L);
+    }
+
+    @Test
+    @DisplayName("ID 생성 테스트 - 순번을 다 쓰거나 시계가 뒤로 가도 계속 증가")
+    void idsStayMonotonic() {
+        // Given
+        TimeSortedIds ids = new TimeSortedIds(0);
+        long previous = ids.nextId(NOW);
+
+        // When & Then: 한 ms의 순번(128개)을 넘겨 생성하고, 이전 시각으로도 생성
+        for (int i = 0; i < 300; i++) {
+            long next = ids.nextId(i % 2 == 0 ? NOW : NOW - 5_000L);
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("ID 생성 테스트 - JavaScript 정수 범위(53비트) 안의 값")
+    void idsFitInJavaScriptSafeInteger() {
+        // Given: 41비트 시간의 마지막 ms
+        TimeSortedIds ids = new TimeSortedIds(TimeSortedIds.MAX_NODE_ID);
+        long lastMs = TimeSortedIds.EPOCH_MS + (1L << 41) - 1;
+
+        // When
+        long id = ids.nextId(lastMs);
+
+        // Then
+        assertThat(id).isLessThanOrEqualTo((1L << 53) - 1);
+        assertThat(new TimeSortedIds(0).nextId(System.currentTimeMillis()))
+            .isGreaterThan(Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("노드 ID 테스트 - 범위를 벗어나면 예외")
+    void rejectsOutOfRangeNodeId() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> new TimeSortedIds(TimeSortedIds.MAX_NODE_ID + 1));
+    }
+}
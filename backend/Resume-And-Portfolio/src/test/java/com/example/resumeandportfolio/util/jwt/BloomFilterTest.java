@@ -0,0 +1,43 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bloom Filter Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Bloom 필터 테스트 - 추가한 값은 항상 포함, 거짓 양성률은 설정값 근처")
+    void bloomFilterHasNoFalseNegatives() {
+        // Given
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        String[] added = new String[10000];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = UUID.randomUUID().toString();
+            filter.put(added[i]);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        for (String value : added) {
+            assertThat(filter.mightContain(value)).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
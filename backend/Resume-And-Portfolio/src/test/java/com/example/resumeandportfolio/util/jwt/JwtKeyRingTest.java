@@ -0,0 +1,253 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * JWT Key Ring Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class JwtKeyRingTest {
+
+    private static final String DEFAULT_SECRET = "mySuperSecretKeyForJwtTesting12345";
+    private static final String NEXT_SECRET = "myNextSecretKeyForJwtRotationTest67890";
+    private static final String OTHER_SECRET = "myOtherSecretKeyForJwtRotationTest13579";
+    private static final long RETENTION_MS = 60000L;
+
+    private JwtKeyRing keyRing;
+    private JwtUtil jwtUtil;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        keyRing = new JwtKeyRing(null, new SimpleMeterRegistry(), DEFAULT_SECRET, "HS256", "none",
+            "", RETENTION_MS, false);
+        jwtUtil = new JwtUtil(keyRing);
+    }
+
+    @Test
+    @DisplayName("키 교체 테스트 - 새 키는 kid 헤더로 서명, 이전 키 토큰도 계속 검증")
+    void rotateKeyTest() {
+        // Given
+        String oldToken = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR", 60000L);
+
+        // When
+        long now = System.currentTimeMillis();
+        keyRing.apply(Map.of("active", "k2", "key.k2", NEXT_SECRET,
+            "retired.default", String.valueOf(now)), now);
+        String newToken = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR", 60000L);
+
+        // Then
+        assertThat(header(oldToken)).doesNotContain("kid");
+        assertThat(header(newToken)).contains("\"kid\":\"k2\"");
+        assertThat(jwtUtil.parseToken(oldToken).username()).isEqualTo("test@example.com");
+        assertThat(jwtUtil.parseToken(newToken).username()).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("키 폐기 테스트 - 보존 기간이 지난 키, 폐기 항목 없이 빠진 키로 서명된 토큰 거부")
+    void retiredKeyExpiresTest() {
+        // Given
+        String oldToken = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR", 60000L);
+        long now = System.currentTimeMillis();
+
+        // When & Then
+        keyRing.apply(Map.of("active", "k2", "key.k2", NEXT_SECRET,
+            "retired.default", String.valueOf(now - RETENTION_MS)), now);
+        assertThrows(JwtException.class, () -> jwtUtil.parseToken(oldToken));
+
+        keyRing.apply(Map.of("active", "k2", "key.k2", NEXT_SECRET), now);
+        assertThrows(JwtException.class, () -> jwtUtil.parseToken(oldToken));
+    }
+
+    @Test
+    @DisplayName("키 폐기 테스트 - 재시작한 노드도 키 목록의 폐기 항목으로 토큰 만료까지 검증")
+    void retiredKeySurvivesRestartTest() throws Exception {
+        // Given: k1으로 서명한 토큰
+        Path file = tempDir.resolve("jwt-keys.properties");
+        Files.writeString(file, "active=k1\nkey.k1=" + NEXT_SECRET + "\n");
+        JwtKeyRing before = new JwtKeyRing(null, new SimpleMeterRegistry(), DEFAULT_SECRET,
+            "HS256", "file", file.toString(), RETENTION_MS, false);
+        String token = new JwtUtil(before).createJwt("access", "test@example.com",
+            "ROLE_VISITOR", 2000L);
+
+        // When: k1 폐기 후 새 노드 시작
+        long retiredAt = System.currentTimeMillis();
+        Files.writeString(file, "active=k2\nkey.k2=" + OTHER_SECRET + "\nretired.k1="
+            + retiredAt + ":" + NEXT_SECRET + "\n");
+        JwtKeyRing restarted = new JwtKeyRing(null, new SimpleMeterRegistry(), DEFAULT_SECRET,
+            "HS256", "file", file.toString(), RETENTION_MS, false);
+        JwtUtil restartedJwtUtil = new JwtUtil(restarted);
+
+        // Then: 토큰 만료 전까지 검증, 만료 후에는 거부
+        assertThat(restarted.activeKey().id()).isEqualTo("k2");
+        assertThat(restartedJwtUtil.parseToken(token).username()).isEqualTo("test@example.com");
+        Thread.sleep(2500L);
+        assertThrows(JwtException.class, () -> restartedJwtUtil.parseToken(token));
+    }
+
+    @Test
+    @DisplayName("키 조회 테스트 - kid 없는 기존 토큰은 default 키로 검증, 모르는 kid는 거부")
+    void locateByKeyIdTest() {
+        // Given
+        String legacyToken = Jwts.builder()
+            .claim("category", "access")
+            .claim("username", "test@example.com")
+            .expiration(new Date(System.currentTimeMillis() + 60000L))
+            .signWith(new SecretKeySpec(DEFAULT_SECRET.getBytes(StandardCharsets.UTF_8),
+                "HmacSHA256"))
+            .compact();
+        String unknownToken = Jwts.builder()
+            .header().keyId("unknown").and()
+            .claim("category", "access")
+            .expiration(new Date(System.currentTimeMillis() + 60000L))
+            .signWith(new SecretKeySpec(DEFAULT_SECRET.getBytes(StandardCharsets.UTF_8),
+                "HmacSHA256"))
+            .compact();
+
+        // When & Then
+        assertThat(jwtUtil.parseToken(legacyToken).username()).isEqualTo("test@example.com");
+        assertThrows(JwtException.class, () -> jwtUtil.parseToken(unknownToken));
+    }
+
+    @Test
+    @DisplayName("키 목록 검증 테스트 - 잘못된 목록은 거부하고 기존 키 유지")
+    void rejectInvalidEntriesTest() {
+        // Given
+        long now = System.currentTimeMillis();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> keyRing.apply(Map.of("active", "k3", "key.k2", NEXT_SECRET), now));
+        assertThrows(IllegalArgumentException.class,
+            () -> keyRing.apply(Map.of("active", "k2", "key.k2", "short"), now));
+        assertThrows(IllegalArgumentException.class,
+            () -> keyRing.apply(Map.of("active", "k\"2", "key.k\"2", NEXT_SECRET), now));
+        assertThat(keyRing.activeKey().id()).isEqualTo(JwtKeyRing.DEFAULT_KEY_ID);
+    }
+
+    @Test
+    @DisplayName("키 목록 파일 테스트 - 재시작 없이 다시 읽어 반영")
+    void reloadFromFileTest() throws Exception {
+        // Given
+        Path file = tempDir.resolve("jwt-keys.properties");
+        Files.writeString(file, "active=default\nkey.default=" + DEFAULT_SECRET + "\n");
+        JwtKeyRing fileRing = new JwtKeyRing(null, new SimpleMeterRegistry(), DEFAULT_SECRET,
+            "HS256", "file", file.toString(), RETENTION_MS, false);
+        JwtUtil fileJwtUtil = new JwtUtil(fileRing);
+        String oldToken = fileJwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR",
+            60000L);
+
+        // When
+        Files.writeString(file, "active=k2\nkey.default=" + DEFAULT_SECRET + "\nkey.k2="
+            + NEXT_SECRET + "\n");
+        fileRing.reload();
+
+        // Then
+        assertThat(fileRing.activeKey().id()).isEqualTo("k2");
+        assertThat(fileJwtUtil.parseToken(oldToken).username()).isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("비대칭 키 테스트 - ES256, EdDSA 서명 토큰을 공개 키만으로 검증")
+    void asymmetricKeyTest() {
+        for (String algorithm : new String[]{"ES256", "EdDSA"}) {
+            // Given
+            KeyPair keyPair = "ES256".equals(algorithm) ? Jwts.SIG.ES256.keyPair().build()
+                : Jwts.SIG.EdDSA.keyPair().build();
+            keyRing.apply(Map.of("active", "a1", "key.a1", entry(algorithm, keyPair, true)),
+                System.currentTimeMillis());
+
+            // When
+            String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR",
+                "session-1", 2L, 60000L);
+
+            // Then
+            assertThat(header(token)).contains("\"kid\":\"a1\"").contains(algorithm);
+            assertThat(jwtUtil.parseToken(token).epoch()).isEqualTo(2L);
+            assertThat(Jwts.parser().verifyWith(keyPair.getPublic()).build()
+                .parseSignedClaims(token).getPayload().get("username"))
+                .isEqualTo("test@example.com");
+        }
+    }
+
+    @Test
+    @DisplayName("비대칭 키 테스트 - 키 목록 없이 비대칭 방식을 쓰면 시작 실패, 명시적으로 허용하면 임시 키 사용")
+    void asymmetricWithoutKeySourceTest() {
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> new JwtKeyRing(null, new SimpleMeterRegistry(), DEFAULT_SECRET, "ES256", "none",
+                "", RETENTION_MS, false));
+        assertThat(exception.getMessage()).contains("spring.jwt.keys.source");
+
+        JwtKeyRing ephemeral = new JwtKeyRing(null, new SimpleMeterRegistry(), DEFAULT_SECRET,
+            "EdDSA", "none", "", RETENTION_MS, true);
+        assertThat(ephemeral.publicJwks()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("JWKS 테스트 - 비대칭 공개 키만 포함하고 HMAC 키와 개인 키는 제외")
+    void publicJwksTest() {
+        // Given
+        KeyPair active = Jwts.SIG.ES256.keyPair().build();
+        KeyPair verifyOnly = Jwts.SIG.EdDSA.keyPair().build();
+
+        // When
+        keyRing.apply(Map.of("active", "a1", "key.a1", entry("ES256", active, true),
+            "key.a0", entry("EdDSA", verifyOnly, false)), System.currentTimeMillis());
+        List<Map<String, Object>> jwks = keyRing.publicJwks();
+
+        // Then
+        assertThat(jwks).extracting(jwk -> jwk.get("kid")).containsExactly("a0", "a1");
+        assertThat(jwks).allSatisfy(jwk -> {
+            assertThat(jwk).containsEntry("use", "sig").doesNotContainKey("d");
+        });
+        assertThat(jwks.get(1)).containsEntry("kty", "EC").containsEntry("alg", "ES256");
+    }
+
+    @Test
+    @DisplayName("비대칭 키 테스트 - 검증 전용 키는 active로 지정 불가")
+    void verifyOnlyKeyCannotBeActiveTest() {
+        // Given
+        KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> keyRing.apply(
+            Map.of("active", "a1", "key.a1", entry("ES256", keyPair, false)),
+            System.currentTimeMillis()));
+    }
+
+    private static String entry(String algorithm, KeyPair keyPair, boolean signing) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        return algorithm + ":"
+            + (signing ? encoder.encodeToString(keyPair.getPrivate().getEncoded()) : "") + ":"
+            + encoder.encodeToString(keyPair.getPublic().getEncoded());
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+            StandardCharsets.UTF_8);
+    }
+}
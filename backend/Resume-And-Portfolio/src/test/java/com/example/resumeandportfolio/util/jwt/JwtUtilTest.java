@@ -1,6 +1,10 @@
 package com.example.resumeandportfolio.util.jwt;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -63,6 +67,69 @@ class JwtUtilTest {
         assertThat(parsedRole).isEqualTo(role);
     }
 
+    @Test
+    @DisplayName("JWT 단일 파싱 테스트 - 한 번의 검증으로 모든 Claims 반환")
+    void parseTokenTest() {
+        // Given
+        long expiredMs = 60000L; // 1 minute
+        long before = System.currentTimeMillis() / 1000 * 1000;
+        String token = jwtUtil.createJwt("refresh", "test@example.com", "ROLE_VISITOR", expiredMs);
+
+        // When
+        JwtClaims claims = jwtUtil.parseToken(token);
+
+        // Then
+        assertThat(claims.category()).isEqualTo("refresh");
+        assertThat(claims.username()).isEqualTo("test@example.com");
+        assertThat(claims.role()).isEqualTo("ROLE_VISITOR");
+        assertThat(claims.sessionId()).isNull();
+        assertThat(claims.issuedAt().getTime()).isGreaterThanOrEqualTo(before);
+        assertThat(claims.expiration().getTime() - claims.issuedAt().getTime()).isEqualTo(expiredMs);
+        assertThat(claims.isExpired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("JWT 세션 ID 테스트 - sid Claim 포함")
+    void sessionIdClaimTest() {
+        // Given
+        String token = jwtUtil.createJwt("refresh", "test@example.com", "ROLE_VISITOR",
+            "session-1", 60000L);
+
+        // When
+        JwtClaims claims = jwtUtil.parseToken(token);
+
+        // Then
+        assertThat(claims.sessionId()).isEqualTo("session-1");
+    }
+
+    @Test
+    @DisplayName("JWT 토큰 세대 테스트 - ep Claim 포함, 없으면 0")
+    void epochClaimTest() {
+        // Given
+        String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR",
+            "session-1", 7L, 60000L);
+        String legacyToken = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR",
+            60000L);
+
+        // When
+        JwtClaims claims = jwtUtil.parseToken(token);
+
+        // Then
+        assertThat(claims.epoch()).isEqualTo(7L);
+        assertThat(claims.tokenId()).isNotBlank();
+        assertThat(jwtUtil.parseToken(legacyToken).epoch()).isZero();
+    }
+
+    @Test
+    @DisplayName("JWT 단일 파싱 실패 테스트 - 만료된 토큰")
+    void parseTokenExpiredTest() {
+        // Given
+        String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR", -1000L);
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseToken(token));
+    }
+
     @Test
     @DisplayName("JWT 만료 확인 테스트 - 유효한 토큰")
     void isNotExpiredTest() {
@@ -96,6 +163,181 @@ class JwtUtilTest {
         assertThat(isExpired).isTrue();
     }
 
+    @Test
+    @DisplayName("JWT 전용 서명 경로 테스트 - jjwt 빌더와 같은 헤더와 Claim")
+    void signerMatchesBuilderTest() {
+        // Given
+        String signed = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR",
+            "session-1", 3L, 60000L);
+        String built = jwtUtil.buildJwt("access", "test@example.com", "ROLE_VISITOR",
+            "session-1", 3L, 60000L);
+
+        // When
+        JwtClaims signedClaims = jwtUtil.parseToken(signed);
+        JwtClaims builtClaims = jwtUtil.parseToken(built);
+
+        // Then
+        assertThat(signed.substring(0, signed.indexOf('.')))
+            .isEqualTo(built.substring(0, built.indexOf('.')));
+        assertThat(signedClaims.category()).isEqualTo(builtClaims.category());
+        assertThat(signedClaims.username()).isEqualTo(builtClaims.username());
+        assertThat(signedClaims.role()).isEqualTo(builtClaims.role());
+        assertThat(signedClaims.sessionId()).isEqualTo(builtClaims.sessionId());
+        assertThat(signedClaims.epoch()).isEqualTo(builtClaims.epoch());
+        assertThat(signedClaims.tokenId()).isNotEqualTo(builtClaims.tokenId());
+        assertThat(signedClaims.expiration().getTime() - signedClaims.issuedAt().getTime())
+            .isEqualTo(60000L);
+    }
+
+    @Test
+    @DisplayName("JWT 전용 서명 경로 테스트 - 이스케이프가 필요한 문자와 멀티바이트 문자")
+    void signerEscapesSpecialCharactersTest() {
+        // Given
+        String username = "q\"b\\s\n\t\u0001한글\uD83D\uDE00@example.com";
+
+        // When
+        String token = jwtUtil.createJwt("access", username, "ROLE_VISITOR", null, 0L, 60000L);
+        JwtClaims claims = jwtUtil.parseToken(token);
+
+        // Then
+        assertThat(claims.username()).isEqualTo(username);
+        assertThat(claims.sessionId()).isNull();
+    }
+
+    @Test
+    @DisplayName("JWT 전용 서명 경로 테스트 - 여러 스레드에서 동시에 서명")
+    void signerIsThreadSafeTest() {
+        // When
+        long verified = java.util.stream.IntStream.range(0, 2000).parallel()
+            .mapToObj(i -> jwtUtil.createJwt("access", "user" + i + "@example.com", "ROLE_VISITOR",
+                "session-" + i, i, 60000L))
+            .map(jwtUtil::parseToken)
+            .filter(claims -> claims.username().equals("user" + claims.epoch() + "@example.com"))
+            .count();
+
+        // Then
+        assertThat(verified).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("JWT 축약 표기 테스트 - 짧은 키와 숫자 코드로 발급, 크기 감소")
+    void compactClaimsTest() {
+        // Given
+        JwtUtil compactJwtUtil = new JwtUtil(new JwtKeyRing(secretKey), true);
+        String sessionId = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+        // When
+        String verbose = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR",
+            sessionId, 1L, 60000L);
+        String compact = compactJwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR",
+            sessionId, 1L, 60000L);
+        JwtClaims claims = compactJwtUtil.parseToken(compact);
+
+        // Then
+        assertThat(payload(compact)).contains("\"c\":0", "\"u\":", "\"r\":3")
+            .doesNotContain("category", "username", "role");
+        assertThat(compact.length()).isLessThan(verbose.length() - 40);
+        assertThat(claims.category()).isEqualTo("access");
+        assertThat(claims.username()).isEqualTo("test@example.com");
+        assertThat(claims.role()).isEqualTo("ROLE_VISITOR");
+        assertThat(claims.sessionId()).isEqualTo(sessionId);
+        assertThat(claims.tokenId()).hasSize(22);
+        assertThat(claims.epoch()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("JWT 축약 표기 테스트 - 설정과 관계없이 두 표기 모두 검증 (전환 기간)")
+    void compactClaimsMigrationTest() {
+        // Given
+        JwtUtil compactJwtUtil = new JwtUtil(new JwtKeyRing(secretKey), true);
+        String verbose = jwtUtil.createJwt("refresh", "test@example.com", "ADMIN", "session-1",
+            0L, 60000L);
+        String compact = compactJwtUtil.createJwt("refresh", "test@example.com", "ADMIN",
+            "session-1", 0L, 60000L);
+
+        // When
+        JwtClaims fromVerbose = compactJwtUtil.parseToken(verbose);
+        JwtClaims fromCompact = jwtUtil.parseToken(compact);
+
+        // Then
+        assertThat(fromVerbose.category()).isEqualTo(fromCompact.category()).isEqualTo("refresh");
+        assertThat(fromVerbose.role()).isEqualTo(fromCompact.role()).isEqualTo("ADMIN");
+        assertThat(fromVerbose.sessionId()).isEqualTo(fromCompact.sessionId());
+    }
+
+    @Test
+    @DisplayName("JWT 축약 표기 테스트 - 코드가 없는 값은 문자열 그대로, jjwt 빌더 경로도 동일")
+    void compactClaimsFallbackTest() {
+        // Given
+        JwtUtil compactJwtUtil = new JwtUtil(new JwtKeyRing(secretKey), true);
+
+        // When
+        JwtClaims signed = compactJwtUtil.parseToken(compactJwtUtil.createJwt("custom",
+            "test@example.com", "EDITOR", null, 0L, 60000L));
+        JwtClaims built = compactJwtUtil.parseToken(compactJwtUtil.buildJwt("access",
+            "test@example.com", "VISITOR", null, 0L, 60000L));
+
+        // Then
+        assertThat(signed.category()).isEqualTo("custom");
+        assertThat(signed.role()).isEqualTo("EDITOR");
+        assertThat(built.category()).isEqualTo("access");
+        assertThat(built.role()).isEqualTo("VISITOR");
+    }
+
+    @Test
+    @DisplayName("JWT 사전 검사 테스트 - 길이, 세그먼트 수, 문자 집합이 잘못된 토큰 거부")
+    void precheckRejectsMalformedTokenTest() {
+        // Given
+        String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR", 60000L);
+
+        // When & Then
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.precheck(null));
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.precheck("a".repeat(5000)));
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.precheck("header.payload"));
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.precheck(token + ".extra"));
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.precheck(".."));
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.precheck("a+b.c/d.e=f"));
+        jwtUtil.precheck(token);
+    }
+
+    @Test
+    @DisplayName("JWT 사전 검사 테스트 - 만료된 토큰은 서명 검증 전에 거부")
+    void precheckRejectsExpiredTokenBeforeSignatureTest() {
+        // Given
+        String expired = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR", -60000L);
+        String forged = expired.substring(0, expired.lastIndexOf('.') + 1) + "AAAA";
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.precheck(forged));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseToken(forged));
+    }
+
+    @Test
+    @DisplayName("JWT 사전 검사 테스트 - 통과한 토큰도 서명은 반드시 검증")
+    void precheckStillRequiresSignatureTest() {
+        // Given
+        String token = jwtUtil.createJwt("access", "test@example.com", "ROLE_VISITOR", 60000L);
+        String forged = token.substring(0, token.lastIndexOf('.') + 1) + "AAAA";
+
+        // When & Then
+        jwtUtil.precheck(forged);
+        assertThrows(SignatureException.class, () -> jwtUtil.parseToken(forged));
+    }
+
+    @Test
+    @DisplayName("JWT 사전 검사 테스트 - 문자열 값 안의 exp는 무시")
+    void precheckIgnoresExpInsideStringTest() {
+        // Given
+        String token = jwtUtil.createJwt("access", "\"exp\":1@example.com", "ROLE_VISITOR",
+            60000L);
+
+        // When
+        JwtClaims claims = jwtUtil.parseToken(token);
+
+        // Then
+        assertThat(claims.username()).isEqualTo("\"exp\":1@example.com");
+    }
+
     @Test
     @DisplayName("JWT 파싱 실패 테스트 - 잘못된 토큰")
     void invalidJwtTest() {
@@ -107,5 +349,12 @@ class JwtUtilTest {
         assertThrows(Exception.class, () -> jwtUtil.getUsername(invalidToken));
         assertThrows(Exception.class, () -> jwtUtil.getRole(invalidToken));
         assertThrows(Exception.class, () -> jwtUtil.isExpired(invalidToken));
+        assertThrows(Exception.class, () -> jwtUtil.parseToken(invalidToken));
+    }
+
+    private static String payload(String token) {
+        String[] parts = token.split("\\.");
+        return new String(Base64.getUrlDecoder().decode(parts[1]),
+            StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+}
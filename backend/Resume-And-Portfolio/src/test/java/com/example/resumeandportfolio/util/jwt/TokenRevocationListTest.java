@@ -0,0 +1,171 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Token Revocation List Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class TokenRevocationListTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+
+    @Test
+    @DisplayName("폐기 목록 테스트 - 필터에 없는 토큰은 Redis 조회 없이 통과")
+    void isRevokedSkipsRedisWhenFilterMisses() {
+        // Given
+        TokenRevocationList revocationList = createRevocationList();
+        revocationList.initialSync();
+
+        // When
+        boolean revoked = revocationList.isRevoked("unknown-token");
+
+        // Then
+        assertThat(revoked).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+        verify(listenerContainer).addMessageListener(eq(revocationList), any(Topic.class));
+    }
+
+    @Test
+    @DisplayName("폐기 목록 테스트 - 폐기한 토큰은 Redis에 저장하고 다른 노드에 전파")
+    void revokeStoresAndPublishes() {
+        // Given
+        TokenRevocationList revocationList = createRevocationList();
+        when(redisTemplate.hasKey("revoked:jti:token-1")).thenReturn(true);
+
+        // When
+        revocationList.revoke("token-1", new Date(System.currentTimeMillis() + 60000L));
+
+        // Then
+        verify(valueOperations).set(eq("revoked:jti:token-1"), eq("1"), any(Duration.class));
+        verify(redisTemplate).convertAndSend(eq("token-revocations"), startsWith("token-1:"));
+        assertThat(revocationList.isRevoked("token-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("폐기 목록 테스트 - 이미 만료된 토큰은 폐기하지 않음")
+    void revokeIgnoresExpiredToken() {
+        // Given
+        TokenRevocationList revocationList = createRevocationList();
+
+        // When
+        revocationList.revoke("token-1", new Date(System.currentTimeMillis() - 1000L));
+
+        // Then
+        verifyNoInteractions(valueOperations);
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("폐기 목록 테스트 - 다른 노드의 폐기 메시지를 필터에 반영하고 지연 기록")
+    void onMessageAddsToFilter() {
+        // Given
+        TokenRevocationList revocationList = createRevocationList();
+        when(redisTemplate.hasKey("revoked:jti:token-2")).thenReturn(true);
+        String body = "token-2:" + (System.currentTimeMillis() - 5);
+
+        // When
+        revocationList.onMessage(new DefaultMessage(
+            "token-revocations".getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertThat(revocationList.isRevoked("token-2")).isTrue();
+        assertThat(meterRegistry.get("jwt.revocation.sync.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("폐기 목록 테스트 - 재동기화 시 Redis의 폐기 목록을 필터에 적재")
+    void resyncLoadsRevokedKeys() {
+        // Given
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn("revoked:jti:token-3");
+        when(redisTemplate.hasKey("revoked:jti:token-3")).thenReturn(true);
+        TokenRevocationList revocationList = createRevocationList();
+
+        // When
+        revocationList.initialSync();
+
+        // Then
+        assertThat(revocationList.isRevoked("token-3")).isTrue();
+        verify(redisTemplate, times(1)).hasKey("revoked:jti:token-3");
+    }
+
+    @Test
+    @DisplayName("폐기 목록 테스트 - 동기화 전에는 모든 토큰을 Redis에서 확인하고 거짓 양성 집계")
+    void unsyncedFilterFallsBackToRedis() {
+        // Given
+        when(redisTemplate.scan(any(ScanOptions.class)))
+            .thenThrow(new IllegalStateException("connection refused"));
+        TokenRevocationList revocationList = createRevocationList();
+        revocationList.initialSync();
+        when(redisTemplate.hasKey("revoked:jti:token-4")).thenReturn(false);
+
+        // When
+        boolean revoked = revocationList.isRevoked("token-4");
+
+        // Then
+        assertThat(revoked).isFalse();
+        assertThat(meterRegistry.get("jwt.revocation.bloom.false-positives").counter().count())
+            .isEqualTo(1.0);
+        assertThat(revocationList.falsePositiveRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("폐기 목록 테스트 - 생성 시에는 Redis를 조회하지 않음")
+    void constructorDoesNotTouchRedis() {
+        // When
+        createRevocationList();
+
+        // Then
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
+    }
+
+    private TokenRevocationList createRevocationList() {
+        return new TokenRevocationList(redisTemplate, listenerContainer, meterRegistry, 1000, 0.01);
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.resumeandportfolio.util.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verified Token Cache Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        jwtUtil = spy(new JwtUtil("mySuperSecretKeyForJwtTesting12345"));
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, redisTemplate, listenerContainer,
+            new SimpleMeterRegistry(), true, 100L);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 테스트 - 같은 토큰은 한 번만 검증")
+    void verifyCachesAccessToken() {
+        // Given
+        String token = jwtUtil.createJwt("access", "test@example.com", "VISITOR", 60000L);
+
+        // When
+        JwtClaims first = verifiedTokenCache.verify(token);
+        JwtClaims second = verifiedTokenCache.verify(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(jwtUtil, times(1)).parseToken(token);
+        assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(1);
+        assertThat(verifiedTokenCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 제외 테스트 - Refresh 토큰은 저장하지 않음")
+    void verifyDoesNotCacheRefreshToken() {
+        // Given
+        String token = jwtUtil.createJwt("refresh", "test@example.com", "VISITOR", 60000L);
+
+        // When
+        verifiedTokenCache.verify(token);
+        verifiedTokenCache.verify(token);
+
+        // Then
+        verify(jwtUtil, times(2)).parseToken(token);
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 테스트 - 사용자 단위로 제거")
+    void invalidateUserRemovesEntries() {
+        // Given
+        String token = jwtUtil.createJwt("access", "test@example.com", "VISITOR", 60000L);
+        String otherToken = jwtUtil.createJwt("access", "other@example.com", "VISITOR", 60000L);
+        verifiedTokenCache.verify(token);
+        verifiedTokenCache.verify(otherToken);
+
+        // When
+        verifiedTokenCache.invalidateUser("test@example.com");
+        verifiedTokenCache.verify(token);
+        verifiedTokenCache.verify(otherToken);
+
+        // Then
+        verify(jwtUtil, times(2)).parseToken(token);
+        verify(jwtUtil, times(1)).parseToken(otherToken);
+        verify(redisTemplate).convertAndSend(VerifiedTokenCache.CHANNEL, "user:test@example.com");
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 테스트 - 다른 노드에서 받은 메시지로 사용자 항목 제거")
+    void invalidationMessageRemovesEntries() {
+        // Given
+        String token = jwtUtil.createJwt("access", "test@example.com", "VISITOR", 60000L);
+        verifiedTokenCache.verify(token);
+
+        // When
+        verifiedTokenCache.onMessage(new DefaultMessage(
+            VerifiedTokenCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "user:test@example.com".getBytes(StandardCharsets.UTF_8)), null);
+        verifiedTokenCache.verify(token);
+
+        // Then
+        verify(jwtUtil, times(2)).parseToken(token);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 테스트 - 로그아웃한 세션의 항목만 제거")
+    void invalidateSessionRemovesOnlySessionEntries() {
+        // Given
+        String token = jwtUtil.createJwt("access", "test@example.com", "VISITOR", "sid-1",
+            60000L);
+        String otherDeviceToken = jwtUtil.createJwt("access", "test@example.com", "VISITOR",
+            "sid-2", 60000L);
+        verifiedTokenCache.verify(token);
+        verifiedTokenCache.verify(otherDeviceToken);
+
+        // When
+        verifiedTokenCache.invalidateSession("test@example.com", "sid-1");
+        verifiedTokenCache.verify(token);
+        verifiedTokenCache.verify(otherDeviceToken);
+
+        // Then
+        verify(jwtUtil, times(2)).parseToken(token);
+        verify(jwtUtil, times(1)).parseToken(otherDeviceToken);
+        assertThat(verifiedTokenCache.indexedKeys("test@example.com")).isEqualTo(2);
+        verify(redisTemplate).convertAndSend(VerifiedTokenCache.CHANNEL,
+            "session:sid-1:test@example.com");
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 테스트 - 다른 노드에서 받은 메시지로 세션 항목 제거")
+    void sessionInvalidationMessageRemovesEntries() {
+        // Given
+        String token = jwtUtil.createJwt("access", "test@example.com", "VISITOR", "sid-1",
+            60000L);
+        String otherDeviceToken = jwtUtil.createJwt("access", "test@example.com", "VISITOR",
+            "sid-2", 60000L);
+        verifiedTokenCache.verify(token);
+        verifiedTokenCache.verify(otherDeviceToken);
+
+        // When
+        verifiedTokenCache.onMessage(new DefaultMessage(
+            VerifiedTokenCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "session:sid-1:test@example.com".getBytes(StandardCharsets.UTF_8)), null);
+        verifiedTokenCache.verify(token);
+        verifiedTokenCache.verify(otherDeviceToken);
+
+        // Then
+        verify(jwtUtil, times(2)).parseToken(token);
+        verify(jwtUtil, times(1)).parseToken(otherDeviceToken);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("캐시 색인 테스트 - 만료된 항목은 사용자 색인에서도 제거")
+    void expiredEntryIsUnindexed() throws InterruptedException {
+        // Given
+        verifiedTokenCache.verify(
+            jwtUtil.createJwt("access", "test@example.com", "VISITOR", 1000L));
+        verifiedTokenCache.verify(
+            jwtUtil.createJwt("access", "test@example.com", "VISITOR", 60000L));
+        assertThat(verifiedTokenCache.indexedKeys("test@example.com")).isEqualTo(2);
+
+        // When
+        Thread.sleep(1500L);
+
+        // Then
+        assertThat(verifiedTokenCache.indexedKeys("test@example.com")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 만료 테스트 - exp가 지난 항목은 다시 검증")
+    void expiredEntryIsNotServed() throws InterruptedException {
+        // Given
+        String token = jwtUtil.createJwt("access", "test@example.com", "VISITOR", 1000L);
+        verifiedTokenCache.verify(token);
+
+        Thread.sleep(1500L);
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> verifiedTokenCache.verify(token));
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 테스트 - 매번 검증")
+    void disabledCacheAlwaysParses() {
+        // Given
+        VerifiedTokenCache disabled = new VerifiedTokenCache(jwtUtil, redisTemplate,
+            listenerContainer, new SimpleMeterRegistry(), false, 100L);
+        String token = jwtUtil.createJwt("access", "test@example.com", "VISITOR", 60000L);
+
+        // When
+        disabled.verify(token);
+        disabled.verify(token);
+
+        // Then
+        verify(jwtUtil, times(2)).parseToken(token);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.resumeandportfolio.util.mail;
+
+import com.example.resumeandportfolio.model.enums.MailType;
+import com.example.resumeandportfolio.util.mail.MailTemplateRegistry.RenderedMail;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Mail Template Registry Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class MailTemplateRegistryTest {
+
+    private static final String[] LOCALES = {"ko", "en"};
+
+    @TempDir
+    private Path tempDir;
+
+    private long modifiedAt = System.currentTimeMillis();
+
+    @Test
+    @DisplayName("템플릿 컴파일 테스트 - 변수 치환, HTML 템플릿만 이스케이프")
+    void compileAndRenderTest() {
+        // Given
+        MailTemplate text = MailTemplate.compile("링크: {{ link }} ({{name}})", false);
+        MailTemplate html = MailTemplate.compile("<a href=\"{{link}}\">{{name}}</a>", true);
+        Map<String, String> values = Map.of("link", "http://a/?x=1&y=2", "name", "<b>\"홍길동\"</b>");
+
+        // When
+        StringBuilder textOut = new StringBuilder();
+        StringBuilder htmlOut = new StringBuilder();
+        text.renderTo(textOut, values);
+        html.renderTo(htmlOut, values);
+
+        // Then
+        assertThat(textOut).hasToString("링크: http://a/?x=1&y=2 (<b>\"홍길동\"</b>)");
+        assertThat(htmlOut).hasToString(
+            "<a href=\"http://a/?x=1&amp;y=2\">&lt;b&gt;&quot;홍길동&quot;&lt;/b&gt;</a>");
+    }
+
+    @Test
+    @DisplayName("템플릿 컴파일 테스트 - 잘못된 자리표시자와 누락된 변수는 거부")
+    void rejectInvalidTemplateTest() {
+        // Given
+        MailTemplate template = MailTemplate.compile("{{link}}", false);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("{{link", false));
+        assertThrows(IllegalArgumentException.class, () -> MailTemplate.compile("{{ }}", false));
+        assertThrows(IllegalArgumentException.class,
+            () -> template.renderTo(new StringBuilder(), Map.of()));
+    }
+
+    @Test
+    @DisplayName("언어별 템플릿 테스트 - 요청 언어로 렌더링, 지원하지 않는 언어는 기본 언어")
+    void renderByLocaleTest() {
+        // Given
+        MailTemplateRegistry registry = new MailTemplateRegistry("", LOCALES, "ko");
+        Map<String, String> values = Map.of("link", "http://localhost/verify?token=t&x=1");
+
+        // When
+        RenderedMail english = registry.render(MailType.VERIFICATION, "en-US", values);
+        RenderedMail fallback = registry.render(MailType.VERIFICATION, "fr", values);
+        RenderedMail unspecified = registry.render(MailType.PASSWORD_RESET, null, values);
+
+        // Then
+        assertThat(english.subject()).isEqualTo("[ResumeAndPortfolio] Verify your email");
+        assertThat(english.text()).contains("http://localhost/verify?token=t&x=1");
+        assertThat(english.html()).contains("href=\"http://localhost/verify?token=t&amp;x=1\"");
+        assertThat(fallback.subject()).isEqualTo("[ResumeAndPortfolio] 이메일 인증");
+        assertThat(unspecified.subject()).isEqualTo("[ResumeAndPortfolio] 비밀번호 재설정");
+    }
+
+    @Test
+    @DisplayName("템플릿 디렉터리 테스트 - 수정된 파일은 재시작 없이 다시 컴파일")
+    void reloadFromDirectoryTest() throws Exception {
+        // Given
+        for (MailType type : MailType.values()) {
+            write(type, "ko", "제목 {{link}}", "본문 {{link}}", "<p>{{link}}</p>");
+        }
+        MailTemplateRegistry registry = new MailTemplateRegistry(tempDir.toString(), LOCALES,
+            "ko");
+        Map<String, String> values = Map.of("link", "L");
+
+        // When
+        RenderedMail before = registry.render(MailType.VERIFICATION, "ko", values);
+        write(MailType.VERIFICATION, "ko", "새 제목 {{link}}", "본문 {{link}}", "<p>{{link}}</p>");
+        write(MailType.VERIFICATION, "en", "Subject {{link}}", "Body {{link}}", "<p>{{link}}</p>");
+        registry.reload();
+
+        // Then
+        assertThat(before.subject()).isEqualTo("제목 L");
+        assertThat(registry.render(MailType.VERIFICATION, "ko", values).subject())
+            .isEqualTo("새 제목 L");
+        assertThat(registry.render(MailType.VERIFICATION, "en", values).subject())
+            .isEqualTo("Subject L");
+    }
+
+    @Test
+    @DisplayName("템플릿 디렉터리 테스트 - 기본 언어 템플릿이 없으면 시작 실패")
+    void missingDefaultTemplateTest() {
+        // When & Then
+        assertThrows(IllegalStateException.class,
+            () -> new MailTemplateRegistry(tempDir.toString(), LOCALES, "ko"));
+    }
+
+    private void write(MailType type, String locale, String subject, String text, String html)
+        throws Exception {
+        Path folder = tempDir.resolve(type.name().toLowerCase().replace('_', '-'))
+            .resolve(locale);
+        Files.createDirectories(folder);
+        // 파일 시스템의 수정 시각 해상도와 관계없이 수정이 감지되도록 쓸 때마다 1초씩 증가
+        modifiedAt += 1000L;
+        FileTime modified = FileTime.fromMillis(modifiedAt);
+        for (String[] file : new String[][]{{"subject.txt", subject}, {"body.txt", text},
+            {"body.html", html}}) {
+            Path path = folder.resolve(file[0]);
+            Files.writeString(path, file[1]);
+            Files.setLastModifiedTime(path, modified);
+        }
+    }
+}
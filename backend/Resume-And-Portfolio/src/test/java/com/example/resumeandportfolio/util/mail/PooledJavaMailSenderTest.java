@@ -0,0 +1,152 @@
+package com.example.resumeandportfolio.util.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pooled Java Mail Sender Test
+ *
+ * 로컬 SMTP 서버(GreenMail)로 연결 재사용과 교체 조건을 검증
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private PooledJavaMailSender mailSender;
+
+    @AfterEach
+    void tearDown() {
+        mailSender.destroy();
+    }
+
+    @Test
+    @DisplayName("연결 재사용 테스트 - 여러 번의 배치 발송을 연결 하나로 처리")
+    void reuseConnectionTest() {
+        // Given
+        mailSender = sender(100, 30000L);
+
+        // When
+        mailSender.send(messages(0, 4));
+        mailSender.send(messages(4, 8));
+        mailSender.send(messages(8, 10));
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(10);
+        assertThat(connections.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연결 교체 테스트 - 연결당 최대 메일 수를 넘으면 새로 연결")
+    void recycleAfterMaxMessagesTest() {
+        // Given
+        mailSender = sender(4, 30000L);
+
+        // When
+        for (MimeMessage message : messages(0, 10)) {
+            mailSender.send(message);
+        }
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(10);
+        assertThat(connections.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("연결 교체 테스트 - 배치 도중 연결당 최대 메일 수에 도달하면 새로 연결")
+    void recycleWithinBatchTest() {
+        // Given
+        mailSender = sender(4, 30000L);
+
+        // When
+        mailSender.send(messages(0, 10));
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(10);
+        assertThat(connections.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("연결 교체 테스트 - 유휴 시간이 지난 연결은 닫고 새로 연결")
+    void recycleAfterIdleTimeoutTest() {
+        // Given
+        mailSender = sender(100, 0L);
+
+        // When
+        mailSender.send(messages(0, 1));
+        mailSender.send(messages(1, 2));
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(connections.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연결 복구 테스트 - 서버가 연결을 끊어도 다음 발송은 새 연결로 성공")
+    void reconnectAfterServerRestartTest() {
+        // Given
+        mailSender = sender(100, 30000L);
+        mailSender.send(messages(0, 1));
+
+        // When
+        greenMail.reset();
+        try {
+            mailSender.send(messages(1, 2));
+        } catch (RuntimeException ignored) {
+            // 끊긴 연결로 보낸 메일은 실패할 수 있음 (outbox가 재시도)
+        }
+        mailSender.send(messages(2, 3));
+
+        // Then
+        assertThat(greenMail.getReceivedMessages()).isNotEmpty();
+        assertThat(connections.get()).isGreaterThanOrEqualTo(2);
+    }
+
+    private PooledJavaMailSender sender(int maxMessagesPerConnection, long idleTimeoutMs) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(2, maxMessagesPerConnection,
+            idleTimeoutMs) {
+            @Override
+            protected Transport connectTransport() throws MessagingException {
+                connections.incrementAndGet();
+                return super.connectTransport();
+            }
+        };
+        sender.setHost("localhost");
+        sender.setPort(greenMail.getSmtp().getPort());
+
+        return sender;
+    }
+
+    private MimeMessage[] messages(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+                helper.setFrom("noreply@example.com");
+                helper.setTo("user" + i + "@example.com");
+                helper.setSubject("메일 " + i);
+                helper.setText("본문 " + i);
+                return message;
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        }).toArray(MimeMessage[]::new);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.resumeandportfolio.util.oauth2;
 
 import com.example.resumeandportfolio.service.user.RefreshTokenService;
+import com.example.resumeandportfolio.service.user.TokenEpochService;
 import com.example.resumeandportfolio.util.jwt.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,12 +36,16 @@ class OAuth2AuthenticationSuccessHandlerTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
     private OAuth2AuthenticationSuccessHandler successHandler;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        successHandler = new OAuth2AuthenticationSuccessHandler(jwtUtil, refreshTokenService);
+        successHandler = new OAuth2AuthenticationSuccessHandler(jwtUtil, refreshTokenService,
+            tokenEpochService);
     }
 
     @Test
@@ -62,8 +67,8 @@ class OAuth2AuthenticationSuccessHandlerTest {
             mockOAuth2User.getAuthorities()
         );
 
-        when(jwtUtil.createJwt("access", email, role, 600000L)).thenReturn("mock-access-token");
-        when(jwtUtil.createJwt("refresh", email, role, 86400000L)).thenReturn("mock-refresh-token");
+        when(jwtUtil.createJwt(eq("access"), eq(email), eq(role), anyString(), anyLong(), eq(600000L))).thenReturn("mock-access-token");
+        when(jwtUtil.createJwt(eq("refresh"), eq(email), eq(role), anyString(), anyLong(), eq(86400000L))).thenReturn("mock-refresh-token");
 
         HttpServletRequest request = mock(HttpServletRequest.class);
         HttpServletResponse response = mock(HttpServletResponse.class);
@@ -72,7 +77,8 @@ class OAuth2AuthenticationSuccessHandlerTest {
         successHandler.onAuthenticationSuccess(request, response, authentication);
 
         // Then
-        verify(refreshTokenService, times(1)).saveRefreshToken(email, "mock-refresh-token", 86400L);
+        verify(refreshTokenService, times(1)).saveRefreshToken(eq(email), anyString(),
+            eq("mock-refresh-token"), eq(86400L));
         verify(response, times(1)).addCookie(argThat(
             cookie -> "access".equals(cookie.getName()) && "mock-access-token".equals(
                 cookie.getValue())));
@@ -102,8 +108,8 @@ class OAuth2AuthenticationSuccessHandlerTest {
             mockOAuth2User.getAuthorities()
         );
 
-        when(jwtUtil.createJwt("access", email, role, 600000L)).thenReturn("mock-access-token");
-        when(jwtUtil.createJwt("refresh", email, role, 86400000L)).thenReturn("mock-refresh-token");
+        when(jwtUtil.createJwt(eq("access"), eq(email), eq(role), anyString(), anyLong(), eq(600000L))).thenReturn("mock-access-token");
+        when(jwtUtil.createJwt(eq("refresh"), eq(email), eq(role), anyString(), anyLong(), eq(86400000L))).thenReturn("mock-refresh-token");
 
         HttpServletRequest request = mock(HttpServletRequest.class);
         HttpServletResponse response = mock(HttpServletResponse.class);
@@ -112,7 +118,8 @@ class OAuth2AuthenticationSuccessHandlerTest {
         successHandler.onAuthenticationSuccess(request, response, authentication);
 
         // Then
-        verify(refreshTokenService, times(1)).saveRefreshToken(email, "mock-refresh-token", 86400L);
+        verify(refreshTokenService, times(1)).saveRefreshToken(eq(email), anyString(),
+            eq("mock-refresh-token"), eq(86400L));
         verify(response, times(1)).addCookie(argThat(
             cookie -> "access".equals(cookie.getName()) && "mock-access-token".equals(
                 cookie.getValue())));
@@ -0,0 +1,36 @@
+package com.example.resumeandportfolio.util.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BCrypt Cost Calibrator Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class BCryptCostCalibratorTest {
+
+    @Test
+    @DisplayName("cost 보정 테스트 - 목표 시간이 매우 짧으면 최소 cost")
+    void calibrateReturnsMinimumForTinyTarget() {
+        // When
+        int strength = BCryptCostCalibrator.calibrate(0L, 4, 6);
+
+        // Then
+        assertThat(strength).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("cost 보정 테스트 - 목표 시간이 충분하면 최대 cost로 제한")
+    void calibrateCapsAtMaximum() {
+        // When
+        int strength = BCryptCostCalibrator.calibrate(60_000L, 4, 6);
+
+        // Then
+        assertThat(strength).isEqualTo(6);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.resumeandportfolio.util.password;
+
+import com.example.resumeandportfolio.exception.CustomException;
+import com.example.resumeandportfolio.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Bounded Password Encoder Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 테스트 - 전용 풀에서 해시하고 대기, 해시 시간 기록")
+    void hashOnDedicatedPool() {
+        // Given
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 10, 5000L,
+            meterRegistry);
+
+        // When
+        String encoded = encoder.encode("password123");
+
+        // Then
+        assertThat(encoder.matches("password123", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.timer("password.hash.latency", "operation", "encode").count())
+            .isEqualTo(1L);
+        assertThat(meterRegistry.timer("password.hash.latency", "operation", "matches").count())
+            .isEqualTo(2L);
+        assertThat(meterRegistry.timer("password.hash.queue").count()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 테스트 - 대기 시간 안에 실행되지 못하면 해시 없이 503으로 실패")
+    void failFastWhenSaturated() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEncoder delegate = new BlockingEncoder(started, release);
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 100L, meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(
+            () -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CustomException timedOut = assertThrows(CustomException.class,
+            () -> encoder.encode("queued"));
+        CustomException timedOutAgain = assertThrows(CustomException.class,
+            () -> encoder.encode("queued-again"));
+        release.countDown();
+
+        // Then
+        assertEquals(ErrorCode.PASSWORD_HASHING_BUSY, timedOut.getErrorCode());
+        assertEquals(ErrorCode.PASSWORD_HASHING_BUSY, timedOutAgain.getErrorCode());
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded:first");
+        assertThat(delegate.calls).isEqualTo(1); // 포기한 작업은 실행되지 않음
+        assertThat(meterRegistry.counter("password.hash.rejected").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 테스트 - 큐가 가득 차면 바로 503으로 실패")
+    void rejectWhenQueueFull() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(started, release), 1, 1, 5000L,
+            meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(
+            () -> encoder.encode("second"));
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> meterRegistry.get("password.hash.queue.size").gauge().value() == 1);
+
+        // When
+        long start = System.nanoTime();
+        CustomException exception = assertThrows(CustomException.class,
+            () -> encoder.encode("third"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Then
+        assertEquals(ErrorCode.PASSWORD_HASHING_BUSY, exception.getErrorCode());
+        assertThat(elapsedMs).isLessThan(1000L);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded:second");
+    }
+
+    // 첫 호출을 release까지 붙잡아 두는 인코더
+    private static final class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+        private volatile int calls;
+
+        private BlockingEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            calls++;
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
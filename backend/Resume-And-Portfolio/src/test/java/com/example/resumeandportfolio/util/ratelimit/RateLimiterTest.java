@@ -0,0 +1,155 @@
+package com.example.resumeandportfolio.util.ratelimit;
+
+import com.example.resumeandportfolio.config.RateLimitProperties;
+import com.example.resumeandportfolio.config.RateLimitProperties.Endpoint;
+import com.example.resumeandportfolio.config.RateLimitProperties.Limit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Rate Limiter Test
+ *
+ * @author Ji-Seungwoo
+ * @version 1.0
+ */
+
+class RateLimiterTest {
+
+    private static final String IP = "10.0.0.1";
+    private static final String EMAIL = "User@Example.com";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+    private Endpoint rule;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(redisTemplate, meterRegistry, new RateLimitProperties());
+        rule = new Endpoint(List.of("/api/users/login"), new Limit(2, Duration.ofMinutes(1)),
+            new Limit(1, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트 - IP와 이메일 버킷을 한 번의 스크립트 호출로 확인")
+    void acquireChecksIpAndEmailBuckets() {
+        // Given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(),
+            any(Object[].class)))
+            .thenReturn(List.of(0L, 0L, 1L, 1L));
+
+        // When
+        long wait = rateLimiter.acquire("login", rule, IP, EMAIL);
+
+        // Then
+        assertThat(wait).isZero();
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<List<Long>>>any(),
+            eq(List.of("rate-limit:login:ip:" + IP, "rate-limit:login:email:user@example.com")),
+            anyString(), eq("2"), eq("60000"), eq("1"), eq("1"), eq("60000"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트 - Redis가 거부한 키는 대기 시간 동안 Redis 호출 없이 거부")
+    void deniedKeyIsRejectedLocally() {
+        // Given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(),
+            any(Object[].class)))
+            .thenReturn(List.of(0L, 30000L, 0L, 0L));
+
+        // When
+        long first = rateLimiter.acquire("login", rule, IP, EMAIL);
+        long second = rateLimiter.acquire("login", rule, IP, EMAIL);
+        long otherEmail = rateLimiter.acquire("login", rule, IP, "other@example.com");
+
+        // Then
+        assertThat(first).isEqualTo(30000L);
+        assertThat(second).isPositive().isLessThanOrEqualTo(30000L);
+        assertThat(otherEmail).isEqualTo(30000L);
+        verify(redisTemplate, times(2)).execute(
+            ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), any(Object[].class));
+        assertThat(meterRegistry.counter("ratelimit.requests", "endpoint", "login", "result",
+            "local_denied").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트 - 로컬 버킷이 비면 Redis 호출 없이 거부")
+    void emptyLocalBucketSkipsRedis() {
+        // Given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(),
+            any(Object[].class)))
+            .thenReturn(List.of(0L, 1L));
+
+        // When
+        long first = rateLimiter.acquire("reissue", rule, IP, null);
+        long second = rateLimiter.acquire("reissue", rule, IP, null);
+        long third = rateLimiter.acquire("reissue", rule, IP, null);
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isPositive();
+        verify(redisTemplate, times(2)).execute(
+            ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트 - Redis에서 예약한 토큰은 Redis 호출 없이 허용")
+    void reservedTokensSkipRedis() {
+        // Given: capacity 20, local-fraction 0.1 - 한 번에 2개 예약
+        Endpoint reissue = new Endpoint(List.of("/api/users/reissue"),
+            new Limit(20, Duration.ofMinutes(1)), null);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(),
+            any(Object[].class))).thenReturn(List.of(0L, 2L));
+
+        // When
+        long first = rateLimiter.acquire("reissue", reissue, IP, null);
+        long second = rateLimiter.acquire("reissue", reissue, IP, null);
+        long third = rateLimiter.acquire("reissue", reissue, IP, null);
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isZero();
+        verify(redisTemplate, times(2)).execute(
+            ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(), any(Object[].class));
+        assertThat(meterRegistry.counter("ratelimit.requests", "endpoint", "reissue", "result",
+            "local_allowed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요청 제한 테스트 - Redis 장애 시 로컬 버킷으로만 제한")
+    void redisFailureFallsBackToLocalBucket() {
+        // Given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List<Long>>>any(), anyList(),
+            any(Object[].class)))
+            .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        long first = rateLimiter.acquire("login", rule, IP, EMAIL);
+        long second = rateLimiter.acquire("login", rule, IP, EMAIL);
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isPositive();
+        assertThat(meterRegistry.counter("ratelimit.redis.errors").count()).isEqualTo(1.0);
+    }
+}